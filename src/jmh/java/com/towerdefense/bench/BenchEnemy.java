@@ -0,0 +1,47 @@
+package com.towerdefense.bench;
+
+import java.util.SplittableRandom;
+
+/**
+ * Stand-in for an enemy with just the values the combat hot paths read
+ */
+final class BenchEnemy {
+
+    final double x;
+    final double z;
+    final float health;
+    final double progress;
+
+    BenchEnemy(double x, double z, float health, double progress) {
+        this.x = x;
+        this.z = z;
+        this.health = health;
+        this.progress = progress;
+    }
+
+    /**
+     * Scatter enemies over a square field - density stays roughly constant as the count grows,
+     * like a map filling up with more lanes
+     */
+    static BenchEnemy[] scatter(int count, long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        double size = Math.max(16.0, Math.sqrt(count) * 4.0);
+        BenchEnemy[] enemies = new BenchEnemy[count];
+        for (int i = 0; i < count; i++) {
+            enemies[i] = new BenchEnemy(
+                random.nextDouble() * size,
+                random.nextDouble() * size,
+                (float) random.nextDouble(1.0, 50.0),
+                random.nextDouble() * 20.0
+            );
+        }
+        return enemies;
+    }
+
+    /**
+     * Side length of the field used by scatter()
+     */
+    static double fieldSize(int count) {
+        return Math.max(16.0, Math.sqrt(count) * 4.0);
+    }
+}
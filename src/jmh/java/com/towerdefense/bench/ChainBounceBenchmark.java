@@ -0,0 +1,93 @@
+package com.towerdefense.bench;
+
+import com.towerdefense.spatial.SpatialGrid;
+import it.unimi.dsi.fastutil.objects.ReferenceOpenHashSet;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * A full chain lightning activation: repeatedly hop to the nearest enemy not hit yet,
+ * by linear scan and by the expanding ring search EnemySpatialIndex uses (SpatialGrid.findNearest).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ChainBounceBenchmark {
+
+    private static final double BOUNCE_RANGE = 8.0;
+
+    @Param({"10", "100", "1000", "10000"})
+    public int enemies;
+
+    @Param({"4", "24"})
+    public int bounces;
+
+    private BenchEnemy[] field;
+    private SpatialGrid<BenchEnemy> grid;
+    private BenchEnemy first;
+    private BenchEnemy origin;
+    private final ReferenceOpenHashSet<BenchEnemy> hit = new ReferenceOpenHashSet<>();
+    
+    // Mirrors EnemySpatialIndex's query: skip enemies already struck, else distance to the current hop
+    private final ToDoubleFunction<BenchEnemy> distance = enemy -> hit.contains(enemy) ? -1 : distanceSqr(origin, enemy);
+
+    @Setup
+    public void setup() {
+        field = BenchEnemy.scatter(enemies, 7L);
+        grid = new SpatialGrid<>();
+        for (BenchEnemy enemy : field) {
+            grid.insert(enemy, enemy.x, enemy.z);
+        }
+        first = field[0];
+    }
+
+    @Benchmark
+    public int linearScan() {
+        hit.clear();
+        BenchEnemy current = first;
+        for (int bounce = 0; bounce < bounces && current != null; bounce++) {
+            hit.add(current);
+
+            BenchEnemy next = null;
+            double nearestSqr = BOUNCE_RANGE * BOUNCE_RANGE;
+            for (BenchEnemy enemy : field) {
+                if (hit.contains(enemy)) continue;
+
+                double distSqr = distanceSqr(current, enemy);
+                if (distSqr <= nearestSqr) {
+                    next = enemy;
+                    nearestSqr = distSqr;
+                }
+            }
+            current = next;
+        }
+        return hit.size();
+    }
+
+    @Benchmark
+    public int gridRingSearch() {
+        hit.clear();
+        BenchEnemy current = first;
+        for (int bounce = 0; bounce < bounces && current != null; bounce++) {
+            hit.add(current);
+            origin = current;
+            current = grid.findNearest(current.x, current.z, BOUNCE_RANGE, distance);
+        }
+        return hit.size();
+    }
+
+    private static double distanceSqr(BenchEnemy a, BenchEnemy b) {
+        double dx = a.x - b.x;
+        double dz = a.z - b.z;
+        return dx * dx + dz * dz;
+    }
+}
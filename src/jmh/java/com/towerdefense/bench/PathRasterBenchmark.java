@@ -0,0 +1,69 @@
+package com.towerdefense.bench;
+
+import com.towerdefense.sim.PathRasterizer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Rasterizing a path the way PathManager.drawPathSegment does, without the world writes.
+ * The count is the number of waypoints in the path.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PathRasterBenchmark {
+
+    @Param({"10", "100", "1000", "10000"})
+    public int waypoints;
+
+    private int[] xs;
+    private int[] zs;
+
+    @Setup
+    public void setup() {
+        // A winding path of 4-16 block segments, like the generated maps
+        SplittableRandom random = new SplittableRandom(3L);
+        xs = new int[waypoints];
+        zs = new int[waypoints];
+        for (int i = 1; i < waypoints; i++) {
+            xs[i] = xs[i - 1] + random.nextInt(4, 17);
+            zs[i] = zs[i - 1] + random.nextInt(-12, 13);
+        }
+    }
+
+    @Benchmark
+    public int rasterize(Blackhole blackhole) {
+        int columns = 0;
+        for (int i = 0; i < waypoints - 1; i++) {
+            columns += PathRasterizer.forEachColumn(xs[i], 64, zs[i], xs[i + 1], 64, zs[i + 1],
+                (x, z) -> blackhole.consume(x ^ z));
+        }
+        return columns;
+    }
+
+    @Benchmark
+    public int rasterizeWithWidth(Blackhole blackhole) {
+        // Three block wide path - each column places a 3x3 square, as the real path does
+        int columns = 0;
+        for (int i = 0; i < waypoints - 1; i++) {
+            columns += PathRasterizer.forEachColumn(xs[i], 64, zs[i], xs[i + 1], 64, zs[i + 1], (x, z) -> {
+                for (int dx = -1; dx <= 1; dx++) {
+                    for (int dz = -1; dz <= 1; dz++) {
+                        blackhole.consume((x + dx) ^ (z + dz));
+                    }
+                }
+            });
+        }
+        return columns;
+    }
+}
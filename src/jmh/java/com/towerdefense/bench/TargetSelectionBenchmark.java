@@ -0,0 +1,132 @@
+package com.towerdefense.bench;
+
+import com.towerdefense.sim.TargetPicker;
+import com.towerdefense.sim.TargetingPolicy;
+import com.towerdefense.spatial.SpatialGrid;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One tower picking a target: the old collect-and-sort approach against the single-pass
+ * TargetPicker the towers use, both over a full scan and over the enemy grid cells in range.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TargetSelectionBenchmark {
+
+    private static final double RANGE = 12.0;
+
+    @Param({"10", "100", "1000", "10000"})
+    public int enemies;
+
+    @Param({"CLOSEST", "FIRST", "STRONGEST"})
+    public TargetingPolicy policy;
+
+    private BenchEnemy[] field;
+    private SpatialGrid<BenchEnemy> grid;
+    private double towerX;
+    private double towerZ;
+    private TargetPicker<BenchEnemy> picker;
+
+    @Setup
+    public void setup() {
+        field = BenchEnemy.scatter(enemies, 42L);
+        grid = new SpatialGrid<>();
+        for (BenchEnemy enemy : field) {
+            grid.insert(enemy, enemy.x, enemy.z);
+        }
+        towerX = BenchEnemy.fieldSize(enemies) / 2;
+        towerZ = towerX;
+        picker = new TargetPicker<>(new TargetPicker.Metrics<>() {
+            @Override
+            public double distanceSqr(BenchEnemy enemy) {
+                return TargetSelectionBenchmark.this.distanceSqr(enemy);
+            }
+
+            @Override
+            public double pathProgress(BenchEnemy enemy) {
+                return enemy.progress;
+            }
+
+            @Override
+            public double health(BenchEnemy enemy) {
+                return enemy.health;
+            }
+        });
+    }
+
+    @Benchmark
+    public BenchEnemy listAndSort() {
+        double rangeSqr = RANGE * RANGE;
+        List<BenchEnemy> candidates = new ArrayList<>();
+        for (BenchEnemy enemy : field) {
+            if (distanceSqr(enemy) <= rangeSqr) {
+                candidates.add(enemy);
+            }
+        }
+        if (candidates.isEmpty()) return null;
+
+        candidates.sort(Comparator.comparingDouble(enemy -> -policy.score(metric(enemy))));
+        return candidates.get(0);
+    }
+
+    @Benchmark
+    public BenchEnemy singlePass() {
+        double rangeSqr = RANGE * RANGE;
+        picker.begin(policy);
+        for (BenchEnemy enemy : field) {
+            if (distanceSqr(enemy) <= rangeSqr) {
+                picker.offer(enemy);
+            }
+        }
+        return picker.finish();
+    }
+
+    @Benchmark
+    public BenchEnemy singlePassGrid() {
+        double rangeSqr = RANGE * RANGE;
+        picker.begin(policy);
+        int minCellX = grid.toCell(towerX - RANGE);
+        int maxCellX = grid.toCell(towerX + RANGE);
+        int minCellZ = grid.toCell(towerZ - RANGE);
+        int maxCellZ = grid.toCell(towerZ + RANGE);
+        for (int cellX = minCellX; cellX <= maxCellX; cellX++) {
+            for (int cellZ = minCellZ; cellZ <= maxCellZ; cellZ++) {
+                SpatialGrid.Cell<BenchEnemy> cell = grid.getCell(cellX, cellZ);
+                for (int i = 0; cell != null && i < cell.size(); i++) {
+                    BenchEnemy enemy = cell.get(i);
+                    if (distanceSqr(enemy) <= rangeSqr) {
+                        picker.offer(enemy);
+                    }
+                }
+            }
+        }
+        return picker.finish();
+    }
+
+    private double metric(BenchEnemy enemy) {
+        return switch (policy.getMetric()) {
+            case DISTANCE_SQR -> distanceSqr(enemy);
+            case PATH_PROGRESS -> enemy.progress;
+            case HEALTH -> enemy.health;
+        };
+    }
+
+    private double distanceSqr(BenchEnemy enemy) {
+        double dx = enemy.x - towerX;
+        double dz = enemy.z - towerZ;
+        return dx * dx + dz * dz;
+    }
+}
@@ -0,0 +1,68 @@
+package com.towerdefense.bench;
+
+import com.towerdefense.sim.TowerStats;
+import com.towerdefense.sim.TowerType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Upgrading towers and reading their derived stats - the count is the number of towers,
+ * so the rows line up with the enemy counts of the other benchmarks.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TowerStatsBenchmark {
+
+    private static final TowerType[] TYPES = TowerType.values();
+
+    @Param({"10", "100", "1000", "10000"})
+    public int towers;
+
+    private TowerStats[] stats;
+
+    @Setup(Level.Iteration)
+    public void setup() {
+        // Fresh stats every iteration so repeated upgrades don't overflow to infinity
+        stats = new TowerStats[towers];
+        for (int i = 0; i < towers; i++) {
+            stats[i] = TYPES[i % TYPES.length].createStats();
+        }
+    }
+
+    @Benchmark
+    public void applyUpgrade(Blackhole blackhole) {
+        for (TowerStats tower : stats) {
+            tower.applyUpgrade(1.01f, 1.01f, 1.001f);
+            blackhole.consume(tower.getDamage());
+        }
+    }
+
+    @Benchmark
+    public void applyUpgradeWithModifiers(Blackhole blackhole) {
+        for (TowerStats tower : stats) {
+            tower.addModifier("bench", TowerStats.Stat.ATTACK_SPEED, TowerStats.Operation.MULTIPLY, 3.0f, TowerStats.NO_EXPIRY);
+            tower.applyUpgrade(1.01f, 1.01f, 1.001f);
+            blackhole.consume(tower.getAttackInterval());
+        }
+    }
+
+    @Benchmark
+    public void readDerived(Blackhole blackhole) {
+        for (TowerStats tower : stats) {
+            blackhole.consume(tower.getRangeSqr());
+            blackhole.consume(tower.getAttackInterval());
+            blackhole.consume(tower.getDamage());
+        }
+    }
+}
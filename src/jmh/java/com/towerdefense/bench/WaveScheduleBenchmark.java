@@ -0,0 +1,63 @@
+package com.towerdefense.bench;
+
+import com.towerdefense.sim.WaveSchedule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Playing a whole wave schedule through, tick by tick and by skipping the quiet ticks.
+ * The waves are sized so the schedule spawns roughly the given number of enemies.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class WaveScheduleBenchmark {
+
+    @Param({"10", "100", "1000", "10000"})
+    public int enemies;
+
+    @Benchmark
+    public int tickByTick() {
+        WaveSchedule schedule = new WaveSchedule(wavesFor(enemies));
+        int spawned = 0;
+        while (!schedule.isComplete()) {
+            if ((schedule.tick() & WaveSchedule.SPAWN) != 0) {
+                spawned++;
+            }
+        }
+        return spawned;
+    }
+
+    @Benchmark
+    public int skipToEvents() {
+        WaveSchedule schedule = new WaveSchedule(wavesFor(enemies));
+        int spawned = 0;
+        while (!schedule.isComplete()) {
+            schedule.skip(schedule.ticksUntilNextEvent());
+            if ((schedule.tick() & WaveSchedule.SPAWN) != 0) {
+                spawned++;
+            }
+        }
+        return spawned;
+    }
+
+    /**
+     * Smallest number of waves whose enemies add up to at least the count
+     */
+    private static int wavesFor(int enemies) {
+        int total = 0;
+        int wave = 1;
+        while (true) {
+            total += WaveSchedule.getEnemiesForWave(wave);
+            if (total >= enemies) return wave;
+            wave++;
+        }
+    }
+}
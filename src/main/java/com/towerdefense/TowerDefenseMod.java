@@ -1,5 +1,6 @@
 package com.towerdefense;
 
+import com.towerdefense.config.TowerDefenseConfig;
 import com.towerdefense.registry.ModEntities;
 import com.towerdefense.registry.ModItems;
 import com.towerdefense.registry.ModMenuTypes;
@@ -7,6 +8,7 @@ import com.towerdefense.network.ModNetwork;
 import net.neoforged.bus.api.IEventBus;
 import net.neoforged.fml.ModContainer;
 import net.neoforged.fml.common.Mod;
+import net.neoforged.fml.config.ModConfig;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -24,6 +26,9 @@ public class TowerDefenseMod {
         ModMenuTypes.register(modEventBus);
         ModNetwork.register(modEventBus);
         
+        // Register server config
+        modContainer.registerConfig(ModConfig.Type.SERVER, TowerDefenseConfig.SERVER_SPEC);
+        
         LOGGER.info("Tower Defense Mod initialized!");
     }
 }
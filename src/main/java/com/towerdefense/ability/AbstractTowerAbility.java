@@ -1,26 +1,26 @@
 package com.towerdefense.ability;
 
 import com.towerdefense.entity.tower.BaseTowerEntity;
+import com.towerdefense.sim.Cooldown;
 import net.minecraft.world.entity.LivingEntity;
 
 /**
  * Abstract base implementation for tower abilities.
  * Provides common cooldown management and basic structure.
+ * The cooldown itself is the simulation core's Cooldown model.
  */
 public abstract class AbstractTowerAbility implements TowerAbility {
     
     protected final String id;
     protected final String name;
     protected final String description;
-    protected final int maxCooldown;
-    protected int currentCooldown;
+    protected final Cooldown cooldown;
     
     public AbstractTowerAbility(String id, String name, String description, int maxCooldown) {
         this.id = id;
         this.name = name;
         this.description = description;
-        this.maxCooldown = maxCooldown;
-        this.currentCooldown = 0;
+        this.cooldown = new Cooldown(maxCooldown);
     }
     
     @Override
@@ -40,17 +40,17 @@ public abstract class AbstractTowerAbility implements TowerAbility {
     
     @Override
     public int getCooldown() {
-        return maxCooldown;
+        return cooldown.getDuration();
     }
     
     @Override
     public boolean isOnCooldown() {
-        return currentCooldown > 0;
+        return !cooldown.isReady();
     }
     
     @Override
     public int getCurrentCooldown() {
-        return currentCooldown;
+        return cooldown.getRemaining();
     }
     
     @Override
@@ -61,7 +61,7 @@ public abstract class AbstractTowerAbility implements TowerAbility {
         
         boolean success = doActivate(tower, target);
         if (success) {
-            currentCooldown = maxCooldown;
+            cooldown.start();
         }
         return success;
     }
@@ -76,13 +76,22 @@ public abstract class AbstractTowerAbility implements TowerAbility {
     
     @Override
     public void tick(BaseTowerEntity tower) {
-        if (currentCooldown > 0) {
-            currentCooldown--;
-        }
+        tick(tower, 1);
+    }
+    
+    @Override
+    public void tick(BaseTowerEntity tower, int elapsedTicks) {
+        cooldown.advance(elapsedTicks);
+    }
+    
+    @Override
+    public int getTicksUntilNextUpdate() {
+        // Plain cooldowns are caught up lazily whenever the tower wakes
+        return NO_UPDATE;
     }
     
     @Override
     public void reset() {
-        currentCooldown = 0;
+        cooldown.reset();
     }
 }
@@ -1,10 +1,10 @@
 package com.towerdefense.ability;
 
+import com.towerdefense.combat.CombatEvent;
+import com.towerdefense.combat.CombatEventBuffer;
 import com.towerdefense.entity.tower.AilyonTowerEntity;
 import com.towerdefense.entity.tower.BaseTowerEntity;
 import net.minecraft.core.BlockPos;
-import net.minecraft.core.particles.ParticleTypes;
-import net.minecraft.server.level.ServerLevel;
 import net.minecraft.world.entity.LivingEntity;
 import net.minecraft.world.phys.Vec3;
 
@@ -54,39 +54,15 @@ public class BlinkAbility extends AbstractTowerAbility {
             return;
         }
         
-        ServerLevel serverLevel = (ServerLevel) tower.level();
-        
         // Store old position for particles
         Vec3 oldPos = tower.position();
         
         // Teleport to target
         tower.teleportTo(target.getX() + 0.5, target.getY(), target.getZ() + 0.5);
         
-        // Spawn particles at old location (departure)
-        serverLevel.sendParticles(
-            ParticleTypes.PORTAL,
-            oldPos.x, oldPos.y + 1, oldPos.z,
-            30, 0.3, 0.5, 0.3, 0.5
-        );
-        
-        serverLevel.sendParticles(
-            ParticleTypes.SOUL_FIRE_FLAME,
-            oldPos.x, oldPos.y + 1, oldPos.z,
-            15, 0.2, 0.3, 0.2, 0.1
-        );
-        
-        // Spawn particles at new location (arrival)
-        serverLevel.sendParticles(
-            ParticleTypes.PORTAL,
-            tower.getX(), tower.getY() + 1, tower.getZ(),
-            30, 0.3, 0.5, 0.3, 0.5
-        );
-        
-        serverLevel.sendParticles(
-            ParticleTypes.SOUL_FIRE_FLAME,
-            tower.getX(), tower.getY() + 1, tower.getZ(),
-            15, 0.2, 0.3, 0.2, 0.1
-        );
+        // Particles at old location (departure) and new location (arrival)
+        CombatEventBuffer.post(tower, CombatEvent.Type.BLINK, oldPos.x, oldPos.y, oldPos.z, 0);
+        CombatEventBuffer.post(tower, CombatEvent.Type.BLINK, 0);
         
         // Stop movement since we've already arrived
         tower.stopMoving();
@@ -1,8 +1,8 @@
 package com.towerdefense.ability;
 
+import com.towerdefense.combat.CombatEvent;
+import com.towerdefense.combat.CombatEventBuffer;
 import com.towerdefense.entity.tower.BaseTowerEntity;
-import net.minecraft.core.particles.ParticleTypes;
-import net.minecraft.server.level.ServerLevel;
 import net.minecraft.world.entity.LivingEntity;
 
 /**
@@ -25,24 +25,11 @@ public class CriticalStrikeAbility extends AbstractTowerAbility {
             return false;
         }
         
-        ServerLevel serverLevel = (ServerLevel) tower.level();
-        
         // Mark critical strike as ready
         critReady = true;
         
         // Ready particles
-        for (int i = 0; i < 20; i++) {
-            double offsetX = (tower.getRandom().nextDouble() - 0.5) * 2;
-            double offsetY = tower.getRandom().nextDouble() * 2;
-            double offsetZ = (tower.getRandom().nextDouble() - 0.5) * 2;
-            serverLevel.sendParticles(
-                ParticleTypes.ENCHANT,
-                tower.getX() + offsetX,
-                tower.getY() + 1 + offsetY,
-                tower.getZ() + offsetZ,
-                1, 0, 0, 0, 0.1
-            );
-        }
+        CombatEventBuffer.post(tower, CombatEvent.Type.CRIT_READY, 0);
         
         return true;
     }
@@ -77,19 +64,7 @@ public class CriticalStrikeAbility extends AbstractTowerAbility {
         
         // Critical strike particles
         if (!tower.level().isClientSide()) {
-            ServerLevel serverLevel = (ServerLevel) tower.level();
-            for (int i = 0; i < 30; i++) {
-                double offsetX = (tower.getRandom().nextDouble() - 0.5) * 2;
-                double offsetY = tower.getRandom().nextDouble() * target.getBbHeight();
-                double offsetZ = (tower.getRandom().nextDouble() - 0.5) * 2;
-                serverLevel.sendParticles(
-                    ParticleTypes.CRIT,
-                    target.getX() + offsetX,
-                    target.getY() + offsetY,
-                    target.getZ() + offsetZ,
-                    1, 0, 0, 0, 0.3
-                );
-            }
+            CombatEventBuffer.post(target, CombatEvent.Type.CRIT, 0);
         }
         
         return critDamage;
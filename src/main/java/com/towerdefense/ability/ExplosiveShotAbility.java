@@ -1,26 +1,29 @@
 package com.towerdefense.ability;
 
+import com.towerdefense.combat.CombatEvent;
+import com.towerdefense.combat.CombatEventBuffer;
+import com.towerdefense.combat.DamageQueue;
 import com.towerdefense.entity.enemy.BaseEnemyEntity;
 import com.towerdefense.entity.tower.BaseTowerEntity;
-import net.minecraft.core.particles.ParticleTypes;
+import com.towerdefense.spatial.AreaQuery;
 import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.damagesource.DamageSource;
 import net.minecraft.world.entity.LivingEntity;
-import net.minecraft.world.phys.AABB;
-
-import java.util.List;
 
 /**
  * Explosive Shot Ability
- * Fires a projectile that explodes on impact, dealing AoE damage
+ * Fires a projectile that explodes on impact, dealing AoE damage and setting enemies in the blast on fire
  * Cooldown: 8 seconds
  */
 public class ExplosiveShotAbility extends AbstractTowerAbility {
     
     private static final float AOE_RADIUS = 5.0f;
     private static final float DAMAGE_MULTIPLIER = 1.5f;
+    private static final float BURN_MULTIPLIER = 0.25f; // Burn damage per second, relative to tower damage
+    private static final int BURN_DURATION = 60; // 3 seconds
     
     public ExplosiveShotAbility() {
-        super("explosive_shot", "Explosive Shot", "Projectile explodes dealing AoE damage", 160); // 8 second cooldown
+        super("explosive_shot", "Explosive Shot", "Projectile explodes dealing AoE damage and burning enemies", 160); // 8 second cooldown
     }
     
     @Override
@@ -33,42 +36,24 @@ public class ExplosiveShotAbility extends AbstractTowerAbility {
         
         // Damage primary target
         float damage = tower.getStats().getDamage() * DAMAGE_MULTIPLIER;
-        target.hurt(serverLevel.damageSources().explosion(tower, tower), damage);
-        
-        // Explosion particles
-        for (int i = 0; i < 50; i++) {
-            double offsetX = (tower.getRandom().nextDouble() - 0.5) * AOE_RADIUS * 2;
-            double offsetY = tower.getRandom().nextDouble() * AOE_RADIUS;
-            double offsetZ = (tower.getRandom().nextDouble() - 0.5) * AOE_RADIUS * 2;
-            serverLevel.sendParticles(
-                ParticleTypes.EXPLOSION,
-                target.getX() + offsetX,
-                target.getY() + offsetY,
-                target.getZ() + offsetZ,
-                1, 0, 0, 0, 0
-            );
-            serverLevel.sendParticles(
-                ParticleTypes.FLAME,
-                target.getX() + offsetX,
-                target.getY() + offsetY,
-                target.getZ() + offsetZ,
-                2, 0.1, 0.1, 0.1, 0.05
-            );
+        DamageSource explosion = serverLevel.damageSources().explosion(tower, tower);
+        DamageQueue.hurt(tower, target, explosion, damage);
+        float burnDamage = tower.getStats().getDamage() * BURN_MULTIPLIER;
+        if (target instanceof BaseEnemyEntity enemy) {
+            enemy.applyBurn(burnDamage, BURN_DURATION, tower);
         }
         
-        // Find and damage nearby enemies
-        AABB explosionBox = new AABB(
-            target.getX() - AOE_RADIUS, target.getY() - AOE_RADIUS, target.getZ() - AOE_RADIUS,
-            target.getX() + AOE_RADIUS, target.getY() + AOE_RADIUS, target.getZ() + AOE_RADIUS
-        );
+        // Explosion particles
+        CombatEventBuffer.post(target, CombatEvent.Type.EXPLOSION, CombatEvent.toFixed(AOE_RADIUS));
         
-        List<BaseEnemyEntity> nearbyEnemies = serverLevel.getEntitiesOfClass(BaseEnemyEntity.class, explosionBox);
-        for (BaseEnemyEntity enemy : nearbyEnemies) {
-            if (enemy != target && enemy.isAlive()) {
-                float aoeDamage = damage * 0.5f; // Half damage to nearby enemies
-                enemy.hurt(serverLevel.damageSources().explosion(tower, tower), aoeDamage);
+        // Find and damage nearby enemies within the blast sphere
+        float aoeDamage = damage * 0.5f; // Half damage to nearby enemies
+        AreaQuery.of(serverLevel).enemiesInSphere(target.getX(), target.getY(), target.getZ(), AOE_RADIUS, enemy -> {
+            if (enemy != target) {
+                DamageQueue.hurt(tower, enemy, explosion, aoeDamage);
+                enemy.applyBurn(burnDamage, BURN_DURATION, tower);
             }
-        }
+        });
         
         return true;
     }
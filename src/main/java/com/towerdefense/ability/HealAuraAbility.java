@@ -1,12 +1,11 @@
 package com.towerdefense.ability;
 
+import com.towerdefense.combat.CombatEvent;
+import com.towerdefense.combat.CombatEventBuffer;
 import com.towerdefense.entity.tower.BaseTowerEntity;
-import net.minecraft.core.particles.ParticleTypes;
+import com.towerdefense.spatial.AreaQuery;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.world.entity.LivingEntity;
-import net.minecraft.world.phys.AABB;
-
-import java.util.List;
 
 /**
  * Heal Aura Ability
@@ -17,6 +16,7 @@ public class HealAuraAbility extends AbstractTowerAbility {
     
     private static final float HEAL_RADIUS = 10.0f;
     private static final float HEAL_AMOUNT = 20.0f;
+    private static final float AURA_HEIGHT = 8.0f; // Aura reaches 4 blocks above and below the tower
     
     public HealAuraAbility() {
         super("heal_aura", "Heal Aura", "Heals nearby towers", 400); // 20 second cooldown
@@ -30,47 +30,17 @@ public class HealAuraAbility extends AbstractTowerAbility {
         
         ServerLevel serverLevel = (ServerLevel) tower.level();
         
-        // Find nearby towers
-        AABB healBox = new AABB(
-            tower.getX() - HEAL_RADIUS, tower.getY() - HEAL_RADIUS, tower.getZ() - HEAL_RADIUS,
-            tower.getX() + HEAL_RADIUS, tower.getY() + HEAL_RADIUS, tower.getZ() + HEAL_RADIUS
-        );
-        
-        List<BaseTowerEntity> nearbyTowers = serverLevel.getEntitiesOfClass(BaseTowerEntity.class, healBox);
-        
-        int healed = 0;
-        for (BaseTowerEntity nearbyTower : nearbyTowers) {
-            if (nearbyTower.isAlive() && nearbyTower.getHealth() < nearbyTower.getMaxHealth()) {
+        // Heal damaged towers inside the aura's circle - only the level's damaged towers are checked
+        int healed = AreaQuery.of(serverLevel).damagedTowersInCylinder(
+            tower.getX(), tower.getY() - AURA_HEIGHT / 2, tower.getZ(), HEAL_RADIUS, AURA_HEIGHT, nearbyTower -> {
                 nearbyTower.heal(HEAL_AMOUNT);
-                healed++;
                 
                 // Healing particles
-                for (int i = 0; i < 10; i++) {
-                    double offsetX = (tower.getRandom().nextDouble() - 0.5) * 1;
-                    double offsetY = tower.getRandom().nextDouble() * 2;
-                    double offsetZ = (tower.getRandom().nextDouble() - 0.5) * 1;
-                    serverLevel.sendParticles(
-                        ParticleTypes.HEART,
-                        nearbyTower.getX() + offsetX,
-                        nearbyTower.getY() + offsetY,
-                        nearbyTower.getZ() + offsetZ,
-                        1, 0, 0, 0, 0
-                    );
-                }
-            }
-        }
+                CombatEventBuffer.post(nearbyTower, CombatEvent.Type.HEAL, 0);
+            });
         
         // Aura particles from caster
-        for (int i = 0; i < 30; i++) {
-            double angle = (2 * Math.PI * i) / 30;
-            double x = tower.getX() + Math.cos(angle) * HEAL_RADIUS;
-            double z = tower.getZ() + Math.sin(angle) * HEAL_RADIUS;
-            serverLevel.sendParticles(
-                ParticleTypes.HAPPY_VILLAGER,
-                x, tower.getY() + 1, z,
-                1, 0, 0.5, 0, 0
-            );
-        }
+        CombatEventBuffer.post(tower, CombatEvent.Type.HEAL_AURA, CombatEvent.toFixed(HEAL_RADIUS));
         
         return healed > 0;
     }
@@ -1,8 +1,8 @@
 package com.towerdefense.ability;
 
+import com.towerdefense.combat.CombatEvent;
+import com.towerdefense.combat.CombatEventBuffer;
 import com.towerdefense.entity.tower.BaseTowerEntity;
-import net.minecraft.core.particles.ParticleTypes;
-import net.minecraft.server.level.ServerLevel;
 import net.minecraft.world.entity.LivingEntity;
 
 /**
@@ -24,21 +24,8 @@ public class MultiShotAbility extends AbstractTowerAbility {
             return false;
         }
         
-        ServerLevel serverLevel = (ServerLevel) tower.level();
-        
-        // Spawn particles for visual effect
-        for (int i = 0; i < 20; i++) {
-            double offsetX = (tower.getRandom().nextDouble() - 0.5) * 2;
-            double offsetY = tower.getRandom().nextDouble() * 2;
-            double offsetZ = (tower.getRandom().nextDouble() - 0.5) * 2;
-            serverLevel.sendParticles(
-                ParticleTypes.CRIT,
-                tower.getX() + offsetX,
-                tower.getY() + 1 + offsetY,
-                tower.getZ() + offsetZ,
-                1, 0, 0, 0, 0.1
-            );
-        }
+        // Visual effect, spawned by the clients
+        CombatEventBuffer.post(tower, CombatEvent.Type.MULTI_SHOT, 0);
         
         // Attack multiple targets
         tower.performMultiAttack(arrowCount);
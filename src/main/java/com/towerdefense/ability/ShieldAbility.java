@@ -1,8 +1,8 @@
 package com.towerdefense.ability;
 
+import com.towerdefense.combat.CombatEvent;
+import com.towerdefense.combat.CombatEventBuffer;
 import com.towerdefense.entity.tower.BaseTowerEntity;
-import net.minecraft.core.particles.ParticleTypes;
-import net.minecraft.server.level.ServerLevel;
 import net.minecraft.world.entity.LivingEntity;
 
 /**
@@ -28,48 +28,22 @@ public class ShieldAbility extends AbstractTowerAbility {
             return false;
         }
         
-        ServerLevel serverLevel = (ServerLevel) tower.level();
-        
         // Activate shield
         remainingDuration = DURATION;
         remainingShield = SHIELD_AMOUNT;
         
-        // Shield activation particles
-        for (int i = 0; i < 40; i++) {
-            double angle = (2 * Math.PI * i) / 40;
-            double radius = 1.5;
-            double x = tower.getX() + Math.cos(angle) * radius;
-            double z = tower.getZ() + Math.sin(angle) * radius;
-            serverLevel.sendParticles(
-                ParticleTypes.END_ROD,
-                x, tower.getY() + 1, z,
-                1, 0, 0, 0, 0
-            );
-        }
+        // Activation ring and running shield particles are spawned by the clients
+        CombatEventBuffer.post(tower, CombatEvent.Type.SHIELD, DURATION);
         
         return true;
     }
     
     @Override
-    public void tick(BaseTowerEntity tower) {
-        super.tick(tower);
+    public void tick(BaseTowerEntity tower, int elapsedTicks) {
+        super.tick(tower, elapsedTicks);
         
         if (remainingDuration > 0) {
-            remainingDuration--;
-            
-            // Shield particles
-            if (!tower.level().isClientSide() && tower.getRandom().nextFloat() < 0.5f) {
-                ServerLevel serverLevel = (ServerLevel) tower.level();
-                double angle = tower.getRandom().nextDouble() * 2 * Math.PI;
-                double radius = 1.2;
-                double x = tower.getX() + Math.cos(angle) * radius;
-                double z = tower.getZ() + Math.sin(angle) * radius;
-                serverLevel.sendParticles(
-                    ParticleTypes.ENCHANTED_HIT,
-                    x, tower.getY() + 1, z,
-                    1, 0, 0.3, 0, 0
-                );
-            }
+            remainingDuration = Math.max(0, remainingDuration - elapsedTicks);
             
             if (remainingDuration == 0) {
                 remainingShield = 0;
@@ -77,6 +51,12 @@ public class ShieldAbility extends AbstractTowerAbility {
         }
     }
     
+    @Override
+    public int getTicksUntilNextUpdate() {
+        // Wake when the shield expires
+        return remainingDuration > 0 ? remainingDuration : super.getTicksUntilNextUpdate();
+    }
+    
     /**
      * Absorb damage with shield
      * This method should be called from the tower's hurt method to reduce incoming damage.
@@ -105,20 +85,14 @@ public class ShieldAbility extends AbstractTowerAbility {
         
         // Shield damage particles
         if (!tower.level().isClientSide()) {
-            ServerLevel serverLevel = (ServerLevel) tower.level();
-            for (int i = 0; i < 10; i++) {
-                serverLevel.sendParticles(
-                    ParticleTypes.ENCHANTED_HIT,
-                    tower.getX() + (tower.getRandom().nextDouble() - 0.5),
-                    tower.getY() + 1 + tower.getRandom().nextDouble(),
-                    tower.getZ() + (tower.getRandom().nextDouble() - 0.5),
-                    1, 0, 0, 0, 0.1
-                );
-            }
+            CombatEventBuffer.post(tower, CombatEvent.Type.SHIELD_HIT, 0);
         }
         
         if (remainingShield <= 0) {
             remainingDuration = 0;
+            
+            // Stop the clients' shield particles
+            CombatEventBuffer.post(tower, CombatEvent.Type.SHIELD, 0);
         }
         
         return remaining;
@@ -47,12 +47,37 @@ public interface TowerAbility {
      */
     boolean activate(BaseTowerEntity tower, LivingEntity target);
     
+    /**
+     * Returned by {@link #getTicksUntilNextUpdate()} when the ability does not need to be ticked
+     */
+    int NO_UPDATE = Integer.MAX_VALUE;
+    
     /**
      * Called every tick to update cooldowns and passive effects
      * @param tower The tower with this ability
      */
     void tick(BaseTowerEntity tower);
     
+    /**
+     * Advance the ability by several ticks at once
+     * Towers are only woken by the scheduler when something is due, so abilities catch up on wake
+     * @param tower The tower with this ability
+     * @param elapsedTicks Ticks since the ability was last updated
+     */
+    default void tick(BaseTowerEntity tower, int elapsedTicks) {
+        for (int i = 0; i < elapsedTicks; i++) {
+            tick(tower);
+        }
+    }
+    
+    /**
+     * @return Ticks until this ability next needs an update (1 while an effect is running),
+     *         or {@link #NO_UPDATE} if it can sleep until the tower wakes for another reason
+     */
+    default int getTicksUntilNextUpdate() {
+        return 1;
+    }
+    
     /**
      * Reset the ability state (e.g., when tower is upgraded)
      */
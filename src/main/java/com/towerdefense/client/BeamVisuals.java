@@ -0,0 +1,67 @@
+package com.towerdefense.client;
+
+import com.towerdefense.network.BeamPacket;
+import net.minecraft.client.Minecraft;
+import net.minecraft.client.multiplayer.ClientLevel;
+import net.minecraft.core.particles.ParticleOptions;
+import net.minecraft.core.particles.ParticleTypes;
+import net.minecraft.util.RandomSource;
+import net.minecraft.world.phys.Vec3;
+
+/**
+ * Client-side drawing of attack beams sent by the server.
+ * Reproduces the particle lines the server used to send one packet per particle for.
+ */
+public class BeamVisuals {
+
+    /**
+     * Draw a beam as a line of particles from start to end
+     */
+    public static void draw(BeamPacket packet) {
+        ClientLevel level = Minecraft.getInstance().level;
+        if (level == null) return;
+
+        ParticleOptions particle;
+        double spacing;
+        int count;
+        double spread;
+        switch (packet.style()) {
+            case SPECTRAL -> {
+                particle = ParticleTypes.ENCHANTED_HIT;
+                spacing = 0.3;
+                count = 2;
+                spread = 0.05;
+            }
+            case CHAIN -> {
+                particle = ParticleTypes.ELECTRIC_SPARK;
+                spacing = 0.3;
+                count = 1;
+                spread = 0.1;
+            }
+            default -> {
+                particle = ParticleTypes.CRIT;
+                spacing = 0.5;
+                count = 1;
+                spread = 0.1;
+            }
+        }
+
+        Vec3 start = packet.start();
+        Vec3 direction = packet.end().subtract(start);
+        double distance = direction.length();
+        if (distance == 0) return;
+        direction = direction.scale(1.0 / distance);
+
+        RandomSource random = level.getRandom();
+        for (double d = 0; d < distance; d += spacing) {
+            double x = start.x + direction.x * d;
+            double y = start.y + direction.y * d;
+            double z = start.z + direction.z * d;
+            for (int i = 0; i < count; i++) {
+                level.addParticle(particle,
+                    x + random.nextGaussian() * spread, y + random.nextGaussian() * spread, z + random.nextGaussian() * spread,
+                    0, 0, 0);
+            }
+        }
+    }
+}
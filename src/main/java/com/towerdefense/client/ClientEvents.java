@@ -1,6 +1,7 @@
 package com.towerdefense.client;
 
 import com.towerdefense.TowerDefenseMod;
+import com.towerdefense.network.ModNetwork;
 import com.towerdefense.renderer.EnemyRenderer;
 import com.towerdefense.renderer.TowerRenderer;
 import com.towerdefense.registry.ModEntities;
@@ -18,6 +19,8 @@ public class ClientEvents {
 
     @SubscribeEvent
     public static void onClientSetup(FMLClientSetupEvent event) {
+        ModNetwork.setClientHandler(new ClientPayloadHandler());
+
         event.enqueueWork(() -> {
             // Register entity renderers
             EntityRenderers.register(ModEntities.ARCHER_TOWER.get(), TowerRenderer::new);
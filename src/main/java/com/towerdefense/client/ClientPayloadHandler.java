@@ -0,0 +1,36 @@
+package com.towerdefense.client;
+
+import com.towerdefense.network.BeamPacket;
+import com.towerdefense.network.ClientboundHandler;
+import com.towerdefense.network.CombatEventPacket;
+import com.towerdefense.network.EnemyStatusPacket;
+import com.towerdefense.network.TowerPanelPacket;
+
+/**
+ * Client side of every server -> client packet, installed during client setup
+ */
+public class ClientPayloadHandler implements ClientboundHandler {
+
+    @Override
+    public void handleEnemyStatus(EnemyStatusPacket packet) {
+        EnemyStatusVisuals.apply(packet);
+    }
+
+    @Override
+    public void handleBeam(BeamPacket packet) {
+        BeamVisuals.draw(packet);
+    }
+
+    @Override
+    public void handleCombatEvents(CombatEventPacket packet) {
+        CombatEventVisuals.apply(packet);
+        for (BeamPacket beam : packet.beams()) {
+            BeamVisuals.draw(beam);
+        }
+    }
+
+    @Override
+    public void handleTowerPanel(TowerPanelPacket packet) {
+        TowerPanelCache.apply(packet);
+    }
+}
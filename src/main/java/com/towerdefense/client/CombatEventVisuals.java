@@ -0,0 +1,209 @@
+package com.towerdefense.client;
+
+import com.towerdefense.TowerDefenseMod;
+import com.towerdefense.combat.AreaZone;
+import com.towerdefense.combat.CombatEvent;
+import com.towerdefense.network.CombatEventPacket;
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ObjectIterator;
+import net.minecraft.client.Minecraft;
+import net.minecraft.client.multiplayer.ClientLevel;
+import net.minecraft.core.particles.ParticleOptions;
+import net.minecraft.core.particles.ParticleTypes;
+import net.minecraft.util.RandomSource;
+import net.minecraft.world.entity.Entity;
+import net.neoforged.api.distmarker.Dist;
+import net.neoforged.bus.api.SubscribeEvent;
+import net.neoforged.fml.common.EventBusSubscriber;
+import net.neoforged.neoforge.client.event.ClientPlayerNetworkEvent;
+import net.neoforged.neoforge.client.event.ClientTickEvent;
+
+/**
+ * Client-side expansion of combat events into particles.
+ * Bursts are spawned when the event arrives; rapid fire and shield effects keep
+ * emitting locally until they run out, so the server only sends their start and end.
+ */
+@EventBusSubscriber(modid = TowerDefenseMod.MOD_ID, bus = EventBusSubscriber.Bus.GAME, value = Dist.CLIENT)
+public class CombatEventVisuals {
+
+    private static final AreaZone.Kind[] ZONE_KINDS = AreaZone.Kind.values();
+    private static final double DEFAULT_HEIGHT = 2.0;
+
+    private static final Int2ObjectOpenHashMap<ActiveAura> AURAS = new Int2ObjectOpenHashMap<>();
+
+    /**
+     * Spawn the visuals of every event in a server update
+     */
+    public static void apply(CombatEventPacket packet) {
+        ClientLevel level = Minecraft.getInstance().level;
+        if (level == null) return;
+
+        RandomSource random = level.getRandom();
+        for (CombatEvent event : packet.events()) {
+            double x = event.getX();
+            double y = event.getY();
+            double z = event.getZ();
+            switch (event.type()) {
+                case MULTI_SHOT -> scatter(level, random, ParticleTypes.CRIT, x, y + 1, z, 20, 2.0, 2.0, 0.1);
+                case CRIT_READY -> scatter(level, random, ParticleTypes.ENCHANT, x, y + 1, z, 20, 2.0, 2.0, 0.1);
+                case RAPID_FIRE -> {
+                    scatter(level, random, ParticleTypes.FIREWORK, x, y + 1, z, 30, 2.0, 2.0, 0.1);
+                    aura(event.entityId()).rapidFireUntil = level.getGameTime() + event.arg();
+                }
+                case SHIELD -> {
+                    if (event.arg() > 0) {
+                        ring(level, ParticleTypes.END_ROD, x, y + 1, z, 1.5, 40, 0);
+                    }
+                    aura(event.entityId()).shieldUntil = level.getGameTime() + event.arg();
+                }
+                case SHIELD_HIT -> scatter(level, random, ParticleTypes.ENCHANTED_HIT, x, y + 1, z, 10, 1.0, 1.0, 0.1);
+                case HEAL_AURA -> ring(level, ParticleTypes.HAPPY_VILLAGER, x, y + 1, z, fromFixed(event.arg()), 30, 0.5);
+                case SLOW_FIELD -> ring(level, ParticleTypes.SNOWFLAKE, x, y + 0.5, z, fromFixed(event.arg()), 50, 0.2);
+                case BLINK -> {
+                    burst(level, random, ParticleTypes.PORTAL, x, y + 1, z, 30, 0.3, 0.5, 0.3, 0.5);
+                    burst(level, random, ParticleTypes.SOUL_FIRE_FLAME, x, y + 1, z, 15, 0.2, 0.3, 0.2, 0.1);
+                }
+                case LIGHTNING_HIT -> {
+                    double height = heightOf(level, event.entityId());
+                    for (int i = 0; i < 15; i++) {
+                        burst(level, random, ParticleTypes.ELECTRIC_SPARK,
+                            x + (random.nextDouble() - 0.5) * 0.5, y + random.nextDouble() * height, z + (random.nextDouble() - 0.5) * 0.5,
+                            3, 0.2, 0.2, 0.2, 0.1);
+                    }
+                }
+                case EXPLOSION -> {
+                    double radius = fromFixed(event.arg());
+                    for (int i = 0; i < 50; i++) {
+                        double px = x + (random.nextDouble() - 0.5) * radius * 2;
+                        double py = y + random.nextDouble() * radius;
+                        double pz = z + (random.nextDouble() - 0.5) * radius * 2;
+                        level.addParticle(ParticleTypes.EXPLOSION, px, py, pz, 0, 0, 0);
+                        burst(level, random, ParticleTypes.FLAME, px, py, pz, 2, 0.1, 0.1, 0.1, 0.05);
+                    }
+                }
+                case CRIT -> {
+                    double height = heightOf(level, event.entityId());
+                    for (int i = 0; i < 30; i++) {
+                        burst(level, random, ParticleTypes.CRIT,
+                            x + (random.nextDouble() - 0.5) * 2, y + random.nextDouble() * height, z + (random.nextDouble() - 0.5) * 2,
+                            1, 0, 0, 0, 0.3);
+                    }
+                }
+                case HEAL -> scatter(level, random, ParticleTypes.HEART, x, y, z, 10, 1.0, 2.0, 0);
+                case ZONE_PULSE -> {
+                    double radius = fromFixed(event.arg() >> 2);
+                    AreaZone.Kind kind = ZONE_KINDS[Math.min(event.arg() & 3, ZONE_KINDS.length - 1)];
+                    burst(level, random, zoneParticle(kind), x, y, z, (int) (radius * 4), radius / 2, 0.1, radius / 2, 0);
+                }
+                case SPECTRAL_CHARGE -> burst(level, random, ParticleTypes.SOUL_FIRE_FLAME, x, y + 1, z, 10, 0.3, 0.5, 0.3, 0.05);
+                case UPGRADE -> burst(level, random, ParticleTypes.HAPPY_VILLAGER, x, y + 1, z, 30, 0.5, 1, 0.5, 0.1);
+                case SELL -> burst(level, random, ParticleTypes.CLOUD, x, y + 1, z, 20, 0.5, 0.5, 0.5, 0.1);
+                case DEATH -> burst(level, random, ParticleTypes.SOUL, x, y + 0.5, z, 6, 0.2, 0.4, 0.2, 0.02);
+            }
+        }
+    }
+
+    @SubscribeEvent
+    public static void onClientTick(ClientTickEvent.Post event) {
+        if (AURAS.isEmpty()) return;
+
+        ClientLevel level = Minecraft.getInstance().level;
+        if (level == null || Minecraft.getInstance().isPaused()) return;
+
+        long gameTime = level.getGameTime();
+        RandomSource random = level.getRandom();
+        ObjectIterator<Int2ObjectMap.Entry<ActiveAura>> iterator = AURAS.int2ObjectEntrySet().fastIterator();
+        while (iterator.hasNext()) {
+            Int2ObjectMap.Entry<ActiveAura> next = iterator.next();
+            ActiveAura aura = next.getValue();
+            Entity tower = level.getEntity(next.getIntKey());
+            if (tower == null || !tower.isAlive() || aura.isExpired(gameTime)) {
+                iterator.remove();
+                continue;
+            }
+
+            if (aura.rapidFireUntil > gameTime && random.nextFloat() < 0.3f) {
+                burst(level, random, ParticleTypes.CRIT, tower.getX(), tower.getY() + 1, tower.getZ(), 2, 0.3, 0.5, 0.3, 0);
+            }
+            if (aura.shieldUntil > gameTime && random.nextFloat() < 0.5f) {
+                double angle = random.nextDouble() * 2 * Math.PI;
+                burst(level, random, ParticleTypes.ENCHANTED_HIT,
+                    tower.getX() + Math.cos(angle) * 1.2, tower.getY() + 1, tower.getZ() + Math.sin(angle) * 1.2,
+                    1, 0, 0.3, 0, 0);
+            }
+        }
+    }
+
+    @SubscribeEvent
+    public static void onLoggingOut(ClientPlayerNetworkEvent.LoggingOut event) {
+        AURAS.clear();
+    }
+
+    private static ActiveAura aura(int entityId) {
+        return AURAS.computeIfAbsent(entityId, id -> new ActiveAura());
+    }
+
+    /**
+     * Same spread as a server particle packet: gaussian offsets, and gaussian motion scaled by speed
+     */
+    private static void burst(ClientLevel level, RandomSource random, ParticleOptions particle,
+                              double x, double y, double z, int count, double dx, double dy, double dz, double speed) {
+        for (int i = 0; i < count; i++) {
+            level.addParticle(particle,
+                x + random.nextGaussian() * dx, y + random.nextGaussian() * dy, z + random.nextGaussian() * dz,
+                random.nextGaussian() * speed, random.nextGaussian() * speed, random.nextGaussian() * speed);
+        }
+    }
+
+    /**
+     * Particles spread uniformly over a box width wide and height tall, starting at y
+     */
+    private static void scatter(ClientLevel level, RandomSource random, ParticleOptions particle,
+                                double x, double y, double z, int count, double width, double height, double speed) {
+        for (int i = 0; i < count; i++) {
+            burst(level, random, particle,
+                x + (random.nextDouble() - 0.5) * width, y + random.nextDouble() * height, z + (random.nextDouble() - 0.5) * width,
+                1, 0, 0, 0, speed);
+        }
+    }
+
+    /**
+     * Evenly spaced ring of particles around a point
+     */
+    private static void ring(ClientLevel level, ParticleOptions particle, double x, double y, double z,
+                             double radius, int count, double spreadY) {
+        RandomSource random = level.getRandom();
+        for (int i = 0; i < count; i++) {
+            double angle = (2 * Math.PI * i) / count;
+            burst(level, random, particle, x + Math.cos(angle) * radius, y, z + Math.sin(angle) * radius, 1, 0, spreadY, 0, 0);
+        }
+    }
+
+    private static double heightOf(ClientLevel level, int entityId) {
+        Entity entity = level.getEntity(entityId);
+        return entity != null ? entity.getBbHeight() : DEFAULT_HEIGHT;
+    }
+
+    private static double fromFixed(int value) {
+        return (double) value / CombatEvent.POSITION_SCALE;
+    }
+
+    private static ParticleOptions zoneParticle(AreaZone.Kind kind) {
+        return switch (kind) {
+            case SLOW -> ParticleTypes.SNOWFLAKE;
+        };
+    }
+
+    /**
+     * Expiry game times of one tower's running effects
+     */
+    private static class ActiveAura {
+        long rapidFireUntil;
+        long shieldUntil;
+
+        boolean isExpired(long gameTime) {
+            return rapidFireUntil <= gameTime && shieldUntil <= gameTime;
+        }
+    }
+}
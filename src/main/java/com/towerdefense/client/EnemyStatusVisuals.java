@@ -0,0 +1,105 @@
+package com.towerdefense.client;
+
+import com.towerdefense.TowerDefenseMod;
+import com.towerdefense.network.EnemyStatusPacket;
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ObjectIterator;
+import net.minecraft.client.Minecraft;
+import net.minecraft.client.multiplayer.ClientLevel;
+import net.minecraft.core.particles.ParticleTypes;
+import net.minecraft.util.RandomSource;
+import net.minecraft.world.entity.Entity;
+import net.neoforged.api.distmarker.Dist;
+import net.neoforged.bus.api.SubscribeEvent;
+import net.neoforged.fml.common.EventBusSubscriber;
+import net.neoforged.neoforge.client.event.ClientPlayerNetworkEvent;
+import net.neoforged.neoforge.client.event.ClientTickEvent;
+
+/**
+ * Client-side visuals for enemy slows, burns and stuns.
+ * The server sends each status change once; particles are spawned locally until the effect expires.
+ */
+@EventBusSubscriber(modid = TowerDefenseMod.MOD_ID, bus = EventBusSubscriber.Bus.GAME, value = Dist.CLIENT)
+public class EnemyStatusVisuals {
+
+    private static final Int2ObjectOpenHashMap<ActiveStatus> ACTIVE = new Int2ObjectOpenHashMap<>();
+
+    /**
+     * Record the statuses from a server update
+     */
+    public static void apply(EnemyStatusPacket packet) {
+        ClientLevel level = Minecraft.getInstance().level;
+        if (level == null) return;
+
+        long gameTime = level.getGameTime();
+        for (EnemyStatusPacket.Entry entry : packet.entries()) {
+            ActiveStatus status = ACTIVE.computeIfAbsent(entry.entityId(), id -> new ActiveStatus());
+            status.slowUntil = gameTime + entry.slowTicks();
+            status.burnUntil = gameTime + entry.burnTicks();
+            status.stunUntil = gameTime + entry.stunTicks();
+        }
+    }
+
+    @SubscribeEvent
+    public static void onClientTick(ClientTickEvent.Post event) {
+        if (ACTIVE.isEmpty()) return;
+
+        ClientLevel level = Minecraft.getInstance().level;
+        if (level == null || Minecraft.getInstance().isPaused()) return;
+
+        long gameTime = level.getGameTime();
+        RandomSource random = level.getRandom();
+        ObjectIterator<Int2ObjectMap.Entry<ActiveStatus>> iterator = ACTIVE.int2ObjectEntrySet().fastIterator();
+        while (iterator.hasNext()) {
+            Int2ObjectMap.Entry<ActiveStatus> next = iterator.next();
+            ActiveStatus status = next.getValue();
+            Entity entity = level.getEntity(next.getIntKey());
+            if (entity == null || !entity.isAlive() || status.isExpired(gameTime)) {
+                iterator.remove();
+                continue;
+            }
+
+            double x = entity.getX();
+            double y = entity.getY();
+            double z = entity.getZ();
+            double height = entity.getBbHeight();
+
+            if (status.slowUntil > gameTime && random.nextInt(4) == 0) {
+                level.addParticle(ParticleTypes.SNOWFLAKE,
+                    x + random.nextDouble() - 0.5, y + random.nextDouble() * height, z + random.nextDouble() - 0.5,
+                    0, -0.02, 0);
+            }
+            if (status.burnUntil > gameTime && random.nextInt(3) == 0) {
+                level.addParticle(ParticleTypes.FLAME,
+                    x + (random.nextDouble() - 0.5) * 0.6, y + random.nextDouble() * height, z + (random.nextDouble() - 0.5) * 0.6,
+                    0, 0.02, 0);
+            }
+            if (status.stunUntil > gameTime && gameTime % 4 == 0) {
+                // Small circle of sparks above the head
+                double angle = (gameTime / 4 % 8) * Math.PI / 4;
+                level.addParticle(ParticleTypes.ENCHANTED_HIT,
+                    x + Math.cos(angle) * 0.4, y + height + 0.3, z + Math.sin(angle) * 0.4,
+                    0, 0, 0);
+            }
+        }
+    }
+
+    @SubscribeEvent
+    public static void onLoggingOut(ClientPlayerNetworkEvent.LoggingOut event) {
+        ACTIVE.clear();
+    }
+
+    /**
+     * Expiry game times of one enemy's effects
+     */
+    private static class ActiveStatus {
+        long slowUntil;
+        long burnUntil;
+        long stunUntil;
+
+        boolean isExpired(long gameTime) {
+            return slowUntil <= gameTime && burnUntil <= gameTime && stunUntil <= gameTime;
+        }
+    }
+}
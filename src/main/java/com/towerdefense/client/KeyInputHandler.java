@@ -7,6 +7,7 @@ import com.towerdefense.entity.tower.BaseTowerEntity;
 import com.towerdefense.network.ModNetwork;
 import com.towerdefense.network.TowerMovePacket;
 import net.minecraft.client.Minecraft;
+import net.minecraft.client.gui.screens.Screen;
 import net.minecraft.core.BlockPos;
 import net.minecraft.world.entity.Entity;
 import net.minecraft.world.phys.EntityHitResult;
@@ -73,9 +74,21 @@ public class KeyInputHandler {
                 EntityHitResult entityHit = (EntityHitResult) hitResult;
                 Entity entity = entityHit.getEntity();
                 if (entity instanceof BaseTowerEntity tower) {
-                    GuiModeManager.selectTower(tower);
+                    if (Screen.hasControlDown()) {
+                        // Ctrl-click: every tower of this type in reach
+                        GuiModeManager.selectSameType(tower);
+                    } else if (Screen.hasShiftDown()) {
+                        // Shift-click: add to or remove from the current selection
+                        GuiModeManager.toggleBatchTower(tower);
+                    } else {
+                        GuiModeManager.selectTower(tower);
+                    }
+                    
+                    int count = GuiModeManager.getSelectionCount();
                     mc.gui.setOverlayMessage(
-                        net.minecraft.network.chat.Component.literal("Selected " + tower.getTowerName()),
+                        net.minecraft.network.chat.Component.literal(count > 1
+                            ? "Selected " + count + " towers"
+                            : "Selected " + tower.getTowerName()),
                         false
                     );
                     event.setCanceled(true);
@@ -0,0 +1,95 @@
+package com.towerdefense.client;
+
+import com.towerdefense.TowerDefenseMod;
+import com.towerdefense.entity.tower.BaseTowerEntity;
+import com.towerdefense.network.TowerPanelPacket;
+import com.towerdefense.sim.TowerStats;
+import net.minecraft.client.Minecraft;
+import net.minecraft.client.multiplayer.ClientLevel;
+import net.neoforged.api.distmarker.Dist;
+import net.neoforged.bus.api.SubscribeEvent;
+import net.neoforged.fml.common.EventBusSubscriber;
+import net.neoforged.neoforge.client.event.ClientPlayerNetworkEvent;
+
+/**
+ * Client copy of the selected tower's stats and ability cooldowns, kept up to date by TowerPanelPacket.
+ * Cooldowns are stored as the game time they finish, so the side panel counts them down locally.
+ */
+@EventBusSubscriber(modid = TowerDefenseMod.MOD_ID, bus = EventBusSubscriber.Bus.GAME, value = Dist.CLIENT)
+public class TowerPanelCache {
+
+    private static int towerId = -1;
+    private static TowerStats stats;
+    private static long[] readyAt = new long[0];
+
+    /**
+     * Merge a server update into the cache
+     */
+    public static void apply(TowerPanelPacket packet) {
+        ClientLevel level = Minecraft.getInstance().level;
+        if (level == null) return;
+
+        if (packet.has(TowerPanelPacket.FULL)) {
+            towerId = packet.towerId();
+            stats = new TowerStats(0, 0, 0, 0, 0);
+            readyAt = new long[0];
+        } else if (packet.towerId() != towerId || stats == null) {
+            // Delta for a tower we no longer show
+            return;
+        }
+
+        if (packet.has(TowerPanelPacket.LEVEL)) stats.setLevel(packet.level());
+        // Max health first, current health is clamped to it
+        if (packet.has(TowerPanelPacket.MAX_HEALTH)) stats.setMaxHealth(packet.maxHealth());
+        if (packet.has(TowerPanelPacket.HEALTH)) stats.setCurrentHealth(packet.health());
+        // Effective values including modifiers, so the client copy carries them as base values
+        if (packet.has(TowerPanelPacket.DAMAGE)) stats.setDamage(packet.damage());
+        if (packet.has(TowerPanelPacket.RANGE)) stats.setRange(packet.range());
+        if (packet.has(TowerPanelPacket.ATTACK_SPEED)) stats.setAttackSpeed(packet.attackSpeed());
+        if (packet.has(TowerPanelPacket.AGGRO_LIMIT)) stats.setAggroLimit(packet.aggroLimit());
+        if (packet.has(TowerPanelPacket.UPGRADE_COST)) stats.setUpgradeCost(packet.upgradeCost());
+        if (packet.has(TowerPanelPacket.SELL_VALUE)) stats.setSellValue(packet.sellValue());
+        if (packet.has(TowerPanelPacket.COOLDOWNS)) {
+            long gameTime = level.getGameTime();
+            int[] cooldowns = packet.cooldowns();
+            readyAt = new long[cooldowns.length];
+            for (int i = 0; i < cooldowns.length; i++) {
+                readyAt[i] = gameTime + cooldowns[i];
+            }
+        }
+    }
+
+    /**
+     * Synced stats of a tower, or the client entity's own (unsynced) stats until the first update arrives
+     */
+    public static TowerStats getStats(BaseTowerEntity tower) {
+        return hasData(tower) ? stats : tower.getStats();
+    }
+
+    /**
+     * Remaining cooldown of a tower's ability in ticks, 0 when ready or not synced yet
+     */
+    public static int getCooldown(BaseTowerEntity tower, int index) {
+        ClientLevel level = Minecraft.getInstance().level;
+        if (!hasData(tower) || index < 0 || index >= readyAt.length || level == null) return 0;
+        return (int) Math.max(0, readyAt[index] - level.getGameTime());
+    }
+
+    public static boolean hasData(BaseTowerEntity tower) {
+        return stats != null && tower.getId() == towerId;
+    }
+
+    /**
+     * Forget the cached tower (deselected)
+     */
+    public static void clear() {
+        towerId = -1;
+        stats = null;
+        readyAt = new long[0];
+    }
+
+    @SubscribeEvent
+    public static void onLoggingOut(ClientPlayerNetworkEvent.LoggingOut event) {
+        clear();
+    }
+}
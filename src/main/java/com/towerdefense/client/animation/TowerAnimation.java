@@ -10,9 +10,6 @@ import net.minecraft.util.Mth;
  */
 public class TowerAnimation {
 
-    // Duration of attack animation in ticks (20 ticks = 1 second)
-    private static final int ATTACK_ANIMATION_DURATION = 10;
-
     /**
      * Apply idle animation to the tower model
      */
@@ -65,13 +62,10 @@ public class TowerAnimation {
     }
 
     /**
-     * Get attack animation progress from entity data
-     * Returns 0.0 to 1.0 based on attack animation tick
+     * Get attack animation progress from the client game time
+     * Returns 0.0 to 1.0 since the last synced attack started, 0 when idle
      */
-    public static float getAttackProgress(BaseTowerEntity entity) {
-        int animTick = entity.getAttackAnimationTick();
-        if (animTick <= 0) return 0.0F;
-
-        return 1.0F - ((float) animTick / ATTACK_ANIMATION_DURATION);
+    public static float getAttackProgress(BaseTowerEntity entity, float partialTicks) {
+        return entity.getAttackProgress(partialTicks);
     }
 }
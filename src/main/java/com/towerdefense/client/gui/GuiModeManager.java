@@ -1,19 +1,33 @@
 package com.towerdefense.client.gui;
 
+import com.towerdefense.client.TowerPanelCache;
 import com.towerdefense.entity.tower.BaseTowerEntity;
 import com.towerdefense.network.ModNetwork;
+import com.towerdefense.network.TowerActionPacket;
+import com.towerdefense.network.TowerBatchActionPacket;
 import com.towerdefense.network.TowerSelectionPacket;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.ints.IntIterator;
+import it.unimi.dsi.fastutil.ints.IntLinkedOpenHashSet;
+import it.unimi.dsi.fastutil.ints.IntList;
 import net.minecraft.client.Minecraft;
 import net.minecraft.world.entity.Entity;
 
 /**
  * Manages the selected tower for GUI display
  * Simplified - no mode toggling, GUI appears automatically when tower is selected
+ *
+ * Extra towers can be added to the selection (shift-click, or ctrl-click for every nearby tower
+ * of the same type). The side panel still shows the first tower; its actions apply to all of them.
  */
 public class GuiModeManager {
 
+    // Towers within this distance of the player can be batch selected - the server's tower action reach
+    private static final double BATCH_SELECT_RANGE = Math.sqrt(TowerActionPacket.MAX_DISTANCE_SQR);
+
     private static int selectedTowerId = -1;
     private static BaseTowerEntity selectedTower = null;
+    private static final IntLinkedOpenHashSet batchTowerIds = new IntLinkedOpenHashSet();
 
     /**
      * Select a tower for GUI control
@@ -24,10 +38,12 @@ public class GuiModeManager {
             // Deselect previous tower if any
             if (selectedTowerId != -1 && selectedTowerId != tower.getId()) {
                 ModNetwork.sendToServer(new TowerSelectionPacket(selectedTowerId, false));
+                TowerPanelCache.clear();
             }
             
             selectedTowerId = tower.getId();
             selectedTower = tower;
+            batchTowerIds.clear();
             
             // Notify server of selection
             ModNetwork.sendToServer(new TowerSelectionPacket(tower.getId(), true));
@@ -38,7 +54,11 @@ public class GuiModeManager {
      * Select a tower by ID
      */
     public static void selectTower(int towerId) {
+        if (selectedTowerId != towerId) {
+            TowerPanelCache.clear();
+        }
         selectedTowerId = towerId;
+        batchTowerIds.clear();
         
         Minecraft mc = Minecraft.getInstance();
         if (mc.level != null) {
@@ -96,6 +116,80 @@ public class GuiModeManager {
         
         selectedTowerId = -1;
         selectedTower = null;
+        batchTowerIds.clear();
+        TowerPanelCache.clear();
+    }
+
+    /**
+     * Add a tower to the multi-selection, or take it out again (shift-click)
+     * With nothing selected yet the tower simply becomes the selected tower
+     */
+    public static void toggleBatchTower(BaseTowerEntity tower) {
+        if (!hasTowerSelected()) {
+            selectTower(tower);
+            return;
+        }
+        
+        int towerId = tower.getId();
+        if (towerId == selectedTowerId) return;
+        if (!batchTowerIds.remove(towerId) && getSelectionCount() < TowerBatchActionPacket.MAX_TOWERS) {
+            batchTowerIds.add(towerId);
+        }
+    }
+
+    /**
+     * Select a tower together with every tower of the same type in reach (ctrl-click)
+     */
+    public static void selectSameType(BaseTowerEntity tower) {
+        selectTower(tower);
+        
+        Minecraft mc = Minecraft.getInstance();
+        if (mc.level == null || mc.player == null) return;
+        
+        for (BaseTowerEntity other : mc.level.getEntitiesOfClass(BaseTowerEntity.class,
+                mc.player.getBoundingBox().inflate(BATCH_SELECT_RANGE),
+                other -> other != tower && other.getType() == tower.getType() && other.isAlive()
+                        && other.distanceToSqr(mc.player) <= BATCH_SELECT_RANGE * BATCH_SELECT_RANGE)) {
+            if (getSelectionCount() >= TowerBatchActionPacket.MAX_TOWERS) break;
+            batchTowerIds.add(other.getId());
+        }
+    }
+
+    /**
+     * Ids of every selected tower, the panel's tower first
+     * Towers that were sold or died since they were selected are dropped
+     */
+    public static IntList getSelectedTowerIds() {
+        IntList towerIds = new IntArrayList(getSelectionCount());
+        if (selectedTowerId == -1) return towerIds;
+        
+        towerIds.add(selectedTowerId);
+        Minecraft mc = Minecraft.getInstance();
+        IntIterator iterator = batchTowerIds.iterator();
+        while (iterator.hasNext()) {
+            int towerId = iterator.nextInt();
+            Entity entity = mc.level != null ? mc.level.getEntity(towerId) : null;
+            if (entity instanceof BaseTowerEntity && entity.isAlive()) {
+                towerIds.add(towerId);
+            } else {
+                iterator.remove();
+            }
+        }
+        return towerIds;
+    }
+
+    /**
+     * Number of selected towers including the panel's tower
+     */
+    public static int getSelectionCount() {
+        return selectedTowerId == -1 ? 0 : 1 + batchTowerIds.size();
+    }
+
+    /**
+     * Whether a tower is the selected tower or part of the multi-selection
+     */
+    public static boolean isSelected(int towerId) {
+        return towerId != -1 && (towerId == selectedTowerId || batchTowerIds.contains(towerId));
     }
 
     /**
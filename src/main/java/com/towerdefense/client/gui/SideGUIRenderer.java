@@ -3,10 +3,12 @@ package com.towerdefense.client.gui;
 import com.mojang.blaze3d.systems.RenderSystem;
 import com.towerdefense.TowerDefenseMod;
 import com.towerdefense.ability.TowerAbility;
+import com.towerdefense.client.TowerPanelCache;
 import com.towerdefense.entity.tower.BaseTowerEntity;
-import com.towerdefense.entity.tower.TowerStats;
 import com.towerdefense.network.ModNetwork;
 import com.towerdefense.network.TowerActionPacket;
+import com.towerdefense.network.TowerBatchActionPacket;
+import com.towerdefense.sim.TowerStats;
 import net.minecraft.client.Minecraft;
 import net.minecraft.client.gui.GuiGraphics;
 import net.minecraft.network.chat.Component;
@@ -41,6 +43,7 @@ public class SideGUIRenderer {
     private static int upgradeButtonX, upgradeButtonY, upgradeButtonW, upgradeButtonH;
     private static int sellButtonX, sellButtonY, sellButtonW, sellButtonH;
     private static int moveButtonX, moveButtonY, moveButtonW, moveButtonH;
+    private static int targetingButtonX, targetingButtonY, targetingButtonW, targetingButtonH;
     private static int[] abilityButtonX = new int[10];
     private static int[] abilityButtonY = new int[10];
     private static int[] abilityButtonW = new int[10];
@@ -86,10 +89,15 @@ public class SideGUIRenderer {
         int contentY = y + 10;
         int contentWidth = width - 20;
 
-        TowerStats stats = tower.getStats();
+        // Stats and cooldowns live on the server - the panel shows the copy synced for the selected tower
+        TowerStats stats = TowerPanelCache.getStats(tower);
 
         // Tower name and level (smaller)
         String titleText = tower.getTowerName() + " §7(Lv. " + stats.getLevel() + ")";
+        if (GuiModeManager.getSelectionCount() > 1) {
+            // Actions below apply to the whole multi-selection
+            titleText += " §b+" + (GuiModeManager.getSelectionCount() - 1);
+        }
         guiGraphics.drawString(mc.font, titleText, contentX, contentY, 0xFFD700, false);
         contentY += 12;
 
@@ -127,7 +135,18 @@ public class SideGUIRenderer {
         guiGraphics.drawString(mc.font, String.format("§7SPD: §f%.2f/s", stats.getAttackSpeed()), contentX, contentY, 0xFFFFFF, false);
         contentY += 9;
         guiGraphics.drawString(mc.font, String.format("§7AGG: §f%d", stats.getAggroLimit()), contentX, contentY, 0xFFFFFF, false);
-        contentY += 12;
+        contentY += 11;
+
+        // Targeting policy button (click to cycle)
+        targetingButtonX = contentX;
+        targetingButtonY = contentY;
+        targetingButtonW = contentWidth;
+        targetingButtonH = 12;
+        guiGraphics.fill(contentX, contentY, contentX + contentWidth, contentY + 12, 0xFF2C2C2C);
+        guiGraphics.fill(contentX, contentY, contentX + contentWidth, contentY + 1, 0xFF555555);
+        guiGraphics.fill(contentX, contentY + 11, contentX + contentWidth, contentY + 12, 0xFF555555);
+        guiGraphics.drawString(mc.font, "§7Target: §f" + tower.getTargetingPolicy().getDisplayName(), contentX + 3, contentY + 2, 0xFFFFFF, false);
+        contentY += 15;
 
         // Upgrade preview
         guiGraphics.drawString(mc.font, "§e--- Next Level ---", contentX, contentY, 0xFFFFFF, false);
@@ -154,6 +173,7 @@ public class SideGUIRenderer {
             
             for (int i = 0; i < abilities.size(); i++) {
                 TowerAbility ability = abilities.get(i);
+                int cooldown = TowerPanelCache.getCooldown(tower, i);
                 
                 // Store button bounds
                 abilityButtonX[abilityButtonCount] = contentX;
@@ -163,7 +183,7 @@ public class SideGUIRenderer {
                 abilityButtonCount++;
                 
                 // Render as button (smaller)
-                int bgColor = ability.isOnCooldown() ? 0xFF2C2C2C : 0xFF1A4D1A;
+                int bgColor = cooldown > 0 ? 0xFF2C2C2C : 0xFF1A4D1A;
                 guiGraphics.fill(contentX, contentY, contentX + contentWidth, contentY + 16, bgColor);
                 guiGraphics.fill(contentX, contentY, contentX + contentWidth, contentY + 1, 0xFF555555);
                 guiGraphics.fill(contentX, contentY + 15, contentX + contentWidth, contentY + 16, 0xFF555555);
@@ -172,8 +192,8 @@ public class SideGUIRenderer {
                 
                 // Ability name and cooldown (smaller)
                 String abilityText = ability.getName();
-                if (ability.isOnCooldown()) {
-                    float cooldownSeconds = ability.getCurrentCooldown() / 20.0f;
+                if (cooldown > 0) {
+                    float cooldownSeconds = cooldown / 20.0f;
                     abilityText += String.format(" §7(%.1fs)", cooldownSeconds);
                     guiGraphics.drawString(mc.font, abilityText, contentX + 3, contentY + 4, 0x888888, false);
                 } else {
@@ -210,7 +230,10 @@ public class SideGUIRenderer {
 
         contentY += buttonHeight + 4;
 
-        // Move button
+        // Move button - towers are moved one at a time, so it is hidden for a multi-selection
+        if (GuiModeManager.getSelectionCount() > 1) {
+            return;
+        }
         moveButtonX = contentX;
         moveButtonY = contentY;
         moveButtonW = contentWidth;
@@ -288,19 +311,26 @@ public class SideGUIRenderer {
 
         // Check upgrade button
         if (isInBounds(mouseX, mouseY, upgradeButtonX, upgradeButtonY, upgradeButtonW, upgradeButtonH)) {
-            ModNetwork.sendToServer(new TowerActionPacket(tower.getId(), TowerActionPacket.Action.UPGRADE, null, -1));
+            sendAction(tower, TowerActionPacket.Action.UPGRADE, -1);
             return true;
         }
 
         // Check sell button
         if (isInBounds(mouseX, mouseY, sellButtonX, sellButtonY, sellButtonW, sellButtonH)) {
-            ModNetwork.sendToServer(new TowerActionPacket(tower.getId(), TowerActionPacket.Action.SELL, null, -1));
+            sendAction(tower, TowerActionPacket.Action.SELL, -1);
             GuiModeManager.clearSelection();
             return true;
         }
 
-        // Check move button
-        if (isInBounds(mouseX, mouseY, moveButtonX, moveButtonY, moveButtonW, moveButtonH)) {
+        // Check targeting button
+        if (isInBounds(mouseX, mouseY, targetingButtonX, targetingButtonY, targetingButtonW, targetingButtonH)) {
+            sendAction(tower, TowerActionPacket.Action.CYCLE_TARGETING, -1);
+            return true;
+        }
+
+        // Check move button (hidden while several towers are selected)
+        if (GuiModeManager.getSelectionCount() <= 1
+                && isInBounds(mouseX, mouseY, moveButtonX, moveButtonY, moveButtonW, moveButtonH)) {
             // Enter move mode
             com.towerdefense.client.TowerMoveHandler.enterMoveMode(tower.getId());
             GuiModeManager.clearSelection();
@@ -310,9 +340,9 @@ public class SideGUIRenderer {
         // Check ability buttons
         for (int i = 0; i < abilityButtonCount; i++) {
             if (isInBounds(mouseX, mouseY, abilityButtonX[i], abilityButtonY[i], abilityButtonW[i], abilityButtonH[i])) {
-                // Don't activate if on cooldown
-                if (!tower.getAbilities().get(i).isOnCooldown()) {
-                    ModNetwork.sendToServer(new TowerActionPacket(tower.getId(), TowerActionPacket.Action.USE_ABILITY, null, i));
+                // Don't activate if on cooldown - with several towers selected the server checks each one
+                if (GuiModeManager.getSelectionCount() > 1 || TowerPanelCache.getCooldown(tower, i) <= 0) {
+                    sendAction(tower, TowerActionPacket.Action.USE_ABILITY, i);
                 }
                 return true;
             }
@@ -321,6 +351,17 @@ public class SideGUIRenderer {
         return false;
     }
 
+    /**
+     * Send an action for the selected tower, or one batch packet when several towers are selected
+     */
+    private static void sendAction(BaseTowerEntity tower, TowerActionPacket.Action action, int abilityIndex) {
+        if (GuiModeManager.getSelectionCount() > 1) {
+            ModNetwork.sendToServer(new TowerBatchActionPacket(GuiModeManager.getSelectedTowerIds(), action, abilityIndex));
+        } else {
+            ModNetwork.sendToServer(new TowerActionPacket(tower.getId(), action, null, abilityIndex));
+        }
+    }
+
     private static boolean isInBounds(double mouseX, double mouseY, int x, int y, int width, int height) {
         return mouseX >= x && mouseX <= x + width && mouseY >= y && mouseY <= y + height;
     }
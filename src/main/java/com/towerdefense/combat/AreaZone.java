@@ -0,0 +1,96 @@
+package com.towerdefense.combat;
+
+import com.towerdefense.entity.enemy.BaseEnemyEntity;
+import com.towerdefense.entity.tower.BaseTowerEntity;
+import it.unimi.dsi.fastutil.objects.ReferenceLinkedOpenHashSet;
+import net.minecraft.world.entity.LivingEntity;
+import net.minecraft.world.phys.AABB;
+
+/**
+ * A persistent upright-cylinder effect area, such as a slow pool.
+ *
+ * The zone keeps the set of enemies standing in the grid cells it covers. The ZoneManager
+ * maintains that set as enemies cross cell boundaries, so a pulse only visits the members
+ * instead of querying the world.
+ */
+public class AreaZone {
+
+    public enum Kind {
+        SLOW
+    }
+
+    private final Kind kind;
+    private final BaseTowerEntity owner;
+    private final double x;
+    private final double y;
+    private final double z;
+    private final double radius;
+    private final double height;
+    private final float strength;
+    private final int pulseInterval;
+    private final long startTime;
+    private final long endTime;
+    private final ReferenceLinkedOpenHashSet<BaseEnemyEntity> members = new ReferenceLinkedOpenHashSet<>();
+
+    /**
+     * @param owner Tower that created the zone, or null
+     * @param y Bottom of the cylinder
+     * @param strength Speed multiplier of the slow
+     * @param pulseInterval Ticks between checks of which members stand inside the zone
+     * @param duration Lifetime in ticks
+     */
+    public AreaZone(Kind kind, BaseTowerEntity owner, double x, double y, double z, double radius, double height,
+                    float strength, int pulseInterval, int duration, long gameTime) {
+        this.kind = kind;
+        this.owner = owner;
+        this.x = x;
+        this.y = y;
+        this.z = z;
+        this.radius = radius;
+        this.height = height;
+        this.strength = strength;
+        this.pulseInterval = Math.max(1, pulseInterval);
+        this.startTime = gameTime;
+        this.endTime = gameTime + duration;
+    }
+
+    /**
+     * Exact shape test for a member - membership itself is tracked per cell
+     */
+    public boolean contains(LivingEntity entity) {
+        AABB box = entity.getBoundingBox();
+        if (box.maxY < y || box.minY > y + height) return false;
+        double dx = clampDelta(x, box.minX, box.maxX);
+        double dz = clampDelta(z, box.minZ, box.maxZ);
+        return dx * dx + dz * dz <= radius * radius;
+    }
+
+    public boolean isExpired(long gameTime) {
+        return gameTime >= endTime;
+    }
+
+    /**
+     * Whether the zone pulses this tick - the creator applies the first pulse itself
+     */
+    public boolean isPulseDue(long gameTime) {
+        return gameTime > startTime && (gameTime - startTime) % pulseInterval == 0;
+    }
+
+    private static double clampDelta(double value, double min, double max) {
+        if (value < min) return min - value;
+        if (value > max) return value - max;
+        return 0;
+    }
+
+    public Kind getKind() { return kind; }
+    public BaseTowerEntity getOwner() { return owner; }
+    public double getX() { return x; }
+    public double getY() { return y; }
+    public double getZ() { return z; }
+    public double getRadius() { return radius; }
+    public double getHeight() { return height; }
+    public float getStrength() { return strength; }
+    public int getPulseInterval() { return pulseInterval; }
+    public long getEndTime() { return endTime; }
+    public ReferenceLinkedOpenHashSet<BaseEnemyEntity> getMembers() { return members; }
+}
@@ -0,0 +1,68 @@
+package com.towerdefense.combat;
+
+/**
+ * One visual combat event - an ability going off, a hit, a crit, a heal or a death.
+ * Events are collected per level tick and sent to nearby players in a single packet;
+ * the client expands each one into the particles it stands for.
+ *
+ * Positions are fixed point in 1/8 block, which is plenty for particle origins.
+ *
+ * @param entityId Entity the event is about (tower, target or healed tower), or -1 for none
+ * @param arg Extra detail whose meaning depends on the type, 0 when unused
+ */
+public record CombatEvent(Type type, int entityId, int x, int y, int z, int arg) {
+
+    public static final int POSITION_SCALE = 8;
+
+    public enum Type {
+        MULTI_SHOT,      // Tower fired a multi shot
+        CRIT_READY,      // Tower's next attack is a critical strike
+        RAPID_FIRE,      // arg = duration in ticks
+        SHIELD,          // arg = duration in ticks, 0 when the shield broke
+        SHIELD_HIT,      // Shield absorbed damage
+        HEAL_AURA,       // arg = radius in 1/8 block
+        SLOW_FIELD,      // arg = radius in 1/8 block
+        BLINK,           // Departure or arrival of a blink
+        LIGHTNING_HIT,   // Chain lightning struck the entity
+        EXPLOSION,       // arg = radius in 1/8 block
+        CRIT,            // Critical strike landed on the entity
+        HEAL,            // Entity was healed
+        ZONE_PULSE,      // arg = radius in 1/8 block * 4 + zone kind, position is the zone centre
+        SPECTRAL_CHARGE, // Ailyon gained a spectral charge
+        UPGRADE,         // Tower was upgraded
+        SELL,            // Tower was sold
+        DEATH;           // Enemy was killed
+
+        /**
+         * Whether the client keeps state from this event (a lasting aura) rather than a one-off burst.
+         * Dropping one would leave an aura missing or drawn after it ended, so these bypass LOD and budget.
+         */
+        public boolean isStateful() {
+            return this == RAPID_FIRE || this == SHIELD;
+        }
+    }
+
+    private static final Type[] TYPES = Type.values();
+
+    /**
+     * Create an event at a world position
+     */
+    public static CombatEvent at(Type type, int entityId, double x, double y, double z, int arg) {
+        return new CombatEvent(type, entityId, toFixed(x), toFixed(y), toFixed(z), arg);
+    }
+
+    public static Type typeById(int id) {
+        return id >= 0 && id < TYPES.length ? TYPES[id] : null;
+    }
+
+    /**
+     * Convert a length or coordinate to 1/8 block
+     */
+    public static int toFixed(double value) {
+        return (int) Math.round(value * POSITION_SCALE);
+    }
+
+    public double getX() { return (double) x / POSITION_SCALE; }
+    public double getY() { return (double) y / POSITION_SCALE; }
+    public double getZ() { return (double) z / POSITION_SCALE; }
+}
@@ -0,0 +1,174 @@
+package com.towerdefense.combat;
+
+import com.towerdefense.config.TowerDefenseConfig;
+import com.towerdefense.network.BeamPacket;
+import com.towerdefense.network.CombatEventPacket;
+import com.towerdefense.registry.ModEntities;
+import it.unimi.dsi.fastutil.ints.IntArrays;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.phys.Vec3;
+import net.neoforged.neoforge.network.PacketDistributor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Per-level buffer of the visual combat events and attack beams of one tick.
+ *
+ * Towers and abilities post events instead of calling sendParticles for every particle.
+ * At the end of the tick each player gets one packet with the events and beams close enough
+ * to see, and the client spawns the particles locally. A beam's distance is measured to the
+ * closest point of its line, so players near either end see it.
+ *
+ * With LOD enabled each player gets everything within the full detail distance, every other
+ * effect up to the cutoff distance and nothing beyond it. No player gets more than the per-tick
+ * budget; when there are more candidates the nearest ones are sent. Events that start or end an
+ * aura on the client are always sent within the cutoff and don't count against the budget.
+ * With LOD disabled every effect within the towers' entity tracking range is sent.
+ *
+ * Enemy status updates are not effects - they go to the players tracking the enemy, outside LOD and budget.
+ */
+public class CombatEventBuffer {
+
+    private final ServerLevel level;
+    private final List<CombatEvent> events = new ArrayList<>();
+    private final List<BeamPacket> beams = new ArrayList<>();
+
+    public CombatEventBuffer(ServerLevel level) {
+        this.level = level;
+    }
+
+    /**
+     * Post an event at an entity's position
+     */
+    public static void post(Entity entity, CombatEvent.Type type, int arg) {
+        post(entity, type, entity.getX(), entity.getY(), entity.getZ(), arg);
+    }
+
+    /**
+     * Post an event about an entity at a given position
+     */
+    public static void post(Entity entity, CombatEvent.Type type, double x, double y, double z, int arg) {
+        if (entity.level() instanceof ServerLevel serverLevel) {
+            LevelCombatState.get(serverLevel).getCombatEvents().add(CombatEvent.at(type, entity.getId(), x, y, z, arg));
+        }
+    }
+
+    public void add(CombatEvent event) {
+        events.add(event);
+    }
+
+    public void addBeam(BeamPacket beam) {
+        beams.add(beam);
+    }
+
+    /**
+     * Send every player the events and beams of this tick they are close enough to see
+     */
+    public void flush() {
+        if (events.isEmpty() && beams.isEmpty()) return;
+
+        double fullDetail;
+        double cutoff;
+        int budget;
+        if (TowerDefenseConfig.particleLod()) {
+            fullDetail = TowerDefenseConfig.particleFullDetailDistance();
+            cutoff = Math.max(fullDetail, TowerDefenseConfig.particleCutoffDistance());
+            budget = TowerDefenseConfig.particleBudget() > 0 ? TowerDefenseConfig.particleBudget() : Integer.MAX_VALUE;
+        } else {
+            fullDetail = trackingDistance();
+            cutoff = fullDetail;
+            budget = Integer.MAX_VALUE;
+        }
+        double fullDetailSqr = fullDetail * fullDetail;
+        double cutoffSqr = cutoff * cutoff;
+
+        // Candidates index events first, then beams at events.size() + i
+        int eventCount = events.size();
+        int total = eventCount + beams.size();
+        int[] candidates = new int[total];
+        double[] distances = new double[total];
+
+        for (ServerPlayer player : level.players()) {
+            List<CombatEvent> visibleEvents = new ArrayList<>();
+            List<BeamPacket> visibleBeams = new ArrayList<>();
+            int count = 0;
+            int thinned = 0;
+
+            for (int i = 0; i < total; i++) {
+                double distSqr;
+                if (i < eventCount) {
+                    CombatEvent event = events.get(i);
+                    distSqr = player.distanceToSqr(event.getX(), event.getY(), event.getZ());
+                } else {
+                    BeamPacket beam = beams.get(i - eventCount);
+                    distSqr = distanceToSegmentSqr(player.position(), beam.start(), beam.end());
+                }
+                if (distSqr > cutoffSqr) continue;
+
+                if (i < eventCount && events.get(i).type().isStateful()) {
+                    visibleEvents.add(events.get(i));
+                    continue;
+                }
+
+                // Past full detail range only every other effect is sent
+                if (distSqr > fullDetailSqr && thinned++ % 2 != 0) continue;
+
+                distances[i] = distSqr;
+                candidates[count++] = i;
+            }
+
+            // Over budget - keep the nearest
+            if (count > budget) {
+                IntArrays.quickSort(candidates, 0, count, (a, b) -> Double.compare(distances[a], distances[b]));
+                count = budget;
+            }
+
+            for (int k = 0; k < count; k++) {
+                int i = candidates[k];
+                if (i < eventCount) {
+                    visibleEvents.add(events.get(i));
+                } else {
+                    visibleBeams.add(beams.get(i - eventCount));
+                }
+            }
+
+            // Events and beams share one packet per player
+            if (!visibleEvents.isEmpty() || !visibleBeams.isEmpty()) {
+                PacketDistributor.sendToPlayer(player, new CombatEventPacket(visibleEvents, visibleBeams));
+            }
+        }
+        events.clear();
+        beams.clear();
+    }
+
+    /**
+     * Distance at which players still track the towers emitting the effects, capped by the server's view distance
+     */
+    private double trackingDistance() {
+        int chunks = Math.min(ModEntities.ARCHER_TOWER.get().clientTrackingRange(),
+            level.getServer().getPlayerList().getViewDistance());
+        return chunks * 16.0;
+    }
+
+    /**
+     * Squared distance from a point to the closest point of a line segment
+     */
+    private static double distanceToSegmentSqr(Vec3 point, Vec3 start, Vec3 end) {
+        double dx = end.x - start.x;
+        double dy = end.y - start.y;
+        double dz = end.z - start.z;
+        double lengthSqr = dx * dx + dy * dy + dz * dz;
+        double t = 0;
+        if (lengthSqr > 0) {
+            t = ((point.x - start.x) * dx + (point.y - start.y) * dy + (point.z - start.z) * dz) / lengthSqr;
+            t = Math.max(0, Math.min(1, t));
+        }
+        double ox = start.x + dx * t - point.x;
+        double oy = start.y + dy * t - point.y;
+        double oz = start.z + dz * t - point.z;
+        return ox * ox + oy * oy + oz * oz;
+    }
+}
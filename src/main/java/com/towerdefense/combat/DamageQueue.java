@@ -0,0 +1,138 @@
+package com.towerdefense.combat;
+
+import com.towerdefense.entity.enemy.BaseEnemyEntity;
+import com.towerdefense.entity.tower.BaseTowerEntity;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.damagesource.DamageSource;
+import net.minecraft.world.entity.LivingEntity;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Per-level queue of tower damage.
+ *
+ * Towers and abilities queue their hits during the tower phase instead of calling hurt() mid-iteration.
+ * Hits on the same target within a tick are merged and applied with a single hurt() call when the
+ * queue is flushed, and the tower that landed the killing blow gets exactly one kill callback.
+ * Queued damage is mirrored on enemies so towers can skip targets that are already doomed; an enemy
+ * only counts as doomed when the merged hit would still kill it after the vanilla hurt cooldown.
+ *
+ * A merged hit keeps one DamageSource: the killing blow's, or the first hit's if none is lethal.
+ * Merging is what lets several towers' hits land at all - a second hurt() in the same tick would be
+ * swallowed by the hurt cooldown - and enemies have no per-source resistances, so only the death
+ * message and kill credit depend on the kept source.
+ */
+public class DamageQueue {
+
+    private final Reference2ObjectOpenHashMap<LivingEntity, PendingHit> pendingByTarget = new Reference2ObjectOpenHashMap<>();
+    private List<PendingHit> pending = new ArrayList<>();
+    private List<PendingHit> flushing = new ArrayList<>();
+    private final List<PendingHit> pool = new ArrayList<>();
+
+    /**
+     * Queue damage from a tower on a target
+     * @param attacker The tower responsible for the hit (credited with the kill)
+     * @param target The entity being hit
+     * @param source Damage source to apply
+     * @param amount Damage amount
+     */
+    public void add(BaseTowerEntity attacker, LivingEntity target, DamageSource source, float amount) {
+        if (amount <= 0 || !target.isAlive()) return;
+
+        PendingHit hit = pendingByTarget.get(target);
+        if (hit == null) {
+            hit = pool.isEmpty() ? new PendingHit() : pool.remove(pool.size() - 1);
+            hit.target = target;
+            hit.source = source;
+            hit.attacker = attacker;
+            pendingByTarget.put(target, hit);
+            pending.add(hit);
+        }
+
+        hit.amount += amount;
+        float landing = target instanceof BaseEnemyEntity enemy ? enemy.getLandingDamage(hit.amount) : hit.amount;
+        if (hit.killer == null && landing >= target.getHealth()) {
+            // This hit is the one that would have finished the target off
+            hit.killer = attacker;
+            hit.source = source;
+        }
+
+        if (target instanceof BaseEnemyEntity enemy) {
+            enemy.setPendingDamage(hit.amount);
+        }
+    }
+
+    /**
+     * Apply every queued hit, one hurt() call per target
+     */
+    public void flush() {
+        while (!pending.isEmpty()) {
+            // Swap buffers so hits queued by hurt() side effects land in the next round
+            List<PendingHit> batch = pending;
+            pending = flushing;
+            flushing = batch;
+            pendingByTarget.clear();
+
+            for (int i = 0; i < batch.size(); i++) {
+                apply(batch.get(i));
+            }
+            for (int i = 0; i < batch.size(); i++) {
+                batch.get(i).reset();
+                pool.add(batch.get(i));
+            }
+            batch.clear();
+        }
+    }
+
+    public int size() {
+        return pending.size();
+    }
+
+    private void apply(PendingHit hit) {
+        LivingEntity target = hit.target;
+        if (target instanceof BaseEnemyEntity enemy) {
+            // Cleared before hurt() so an enemy that survives a short hit is targetable again right away
+            enemy.setPendingDamage(0);
+        }
+        if (!target.isAlive()) return;
+
+        target.hurt(hit.source, hit.amount);
+
+        if (target.isDeadOrDying() && target instanceof BaseEnemyEntity enemy) {
+            BaseTowerEntity killer = hit.killer != null ? hit.killer : hit.attacker;
+            if (!killer.isRemoved()) {
+                killer.onKillEnemy(enemy);
+            }
+        }
+    }
+
+    /**
+     * Queue damage on the combat state of the attacker's level
+     */
+    public static void hurt(BaseTowerEntity attacker, LivingEntity target, DamageSource source, float amount) {
+        if (attacker.level() instanceof ServerLevel serverLevel) {
+            LevelCombatState.get(serverLevel).getDamageQueue().add(attacker, target, source, amount);
+        }
+    }
+
+    /**
+     * Merged damage on one target
+     */
+    private static class PendingHit {
+        LivingEntity target;
+        DamageSource source;
+        BaseTowerEntity attacker;
+        BaseTowerEntity killer;
+        float amount;
+
+        void reset() {
+            target = null;
+            source = null;
+            attacker = null;
+            killer = null;
+            amount = 0;
+        }
+    }
+}
@@ -0,0 +1,216 @@
+package com.towerdefense.combat;
+
+import com.towerdefense.entity.enemy.BaseEnemyEntity;
+import com.towerdefense.entity.tower.BaseTowerEntity;
+import com.towerdefense.network.EnemyStatusPacket;
+import com.towerdefense.spatial.AreaQuery;
+import com.towerdefense.spatial.BlockingZoneIndex;
+import com.towerdefense.spatial.EnemySpatialIndex;
+import com.towerdefense.spatial.PathProgressIndex;
+import com.towerdefense.spatial.TowerSpatialIndex;
+import it.unimi.dsi.fastutil.objects.ReferenceLinkedOpenHashSet;
+import net.minecraft.server.level.ServerLevel;
+import net.neoforged.neoforge.network.PacketDistributor;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Per-level combat state shared by all towers and enemies in a ServerLevel.
+ * Ticked once per server tick from the game event handlers.
+ */
+public class LevelCombatState {
+
+    private static final Map<ServerLevel, LevelCombatState> STATES = new HashMap<>();
+
+    private final ServerLevel level;
+    private final EnemySpatialIndex enemyIndex;
+    private final PathProgressIndex pathIndex;
+    private final TowerSpatialIndex towerIndex;
+    private final BlockingZoneIndex blockingZones;
+    private final TowerScheduler towerScheduler;
+    private final DamageQueue damageQueue;
+    private final AreaQuery areaQuery;
+    private final ZoneManager zones;
+    private final ReferenceLinkedOpenHashSet<BaseTowerEntity> damagedTowers;
+    private final ReferenceLinkedOpenHashSet<BaseEnemyEntity> statusChanges;
+    private final CombatEventBuffer combatEvents;
+    private final TowerPanelSync panelSync;
+
+    private LevelCombatState(ServerLevel level) {
+        this.level = level;
+        this.enemyIndex = new EnemySpatialIndex();
+        this.pathIndex = new PathProgressIndex();
+        this.towerIndex = new TowerSpatialIndex();
+        this.blockingZones = new BlockingZoneIndex();
+        this.towerScheduler = new TowerScheduler(level);
+        this.damageQueue = new DamageQueue();
+        this.areaQuery = new AreaQuery(level);
+        this.zones = new ZoneManager(level);
+        this.damagedTowers = new ReferenceLinkedOpenHashSet<>();
+        this.statusChanges = new ReferenceLinkedOpenHashSet<>();
+        this.combatEvents = new CombatEventBuffer(level);
+        this.panelSync = new TowerPanelSync(level);
+    }
+
+    /**
+     * Get (or create) the combat state for a level
+     */
+    public static LevelCombatState get(ServerLevel level) {
+        return STATES.computeIfAbsent(level, LevelCombatState::new);
+    }
+
+    /**
+     * Drop the state of a level that is being unloaded
+     */
+    public static void remove(ServerLevel level) {
+        STATES.remove(level);
+    }
+
+    /**
+     * Drop all state (server stopping)
+     */
+    public static void clearAll() {
+        STATES.clear();
+    }
+
+    /**
+     * Called when an enemy joins the level
+     */
+    public void onEnemyAdded(BaseEnemyEntity enemy) {
+        enemyIndex.add(enemy);
+        pathIndex.add(enemy);
+        zones.onEnemyAdded(enemy);
+        
+        // Idle towers were parked while the level had no enemies
+        towerScheduler.wakeParked();
+    }
+
+    /**
+     * Called when an enemy leaves the level
+     */
+    public void onEnemyRemoved(BaseEnemyEntity enemy) {
+        enemyIndex.remove(enemy);
+        pathIndex.remove(enemy);
+        zones.onEnemyRemoved(enemy);
+        statusChanges.remove(enemy);
+    }
+
+    /**
+     * Called when a slow, burn or stun was applied to an enemy - clients hear about it at the end of the tick
+     */
+    public void onEnemyStatusChanged(BaseEnemyEntity enemy) {
+        statusChanges.add(enemy);
+    }
+
+    /**
+     * Called when a tower is placed or loaded
+     */
+    public void onTowerAdded(BaseTowerEntity tower) {
+        towerIndex.add(tower);
+        blockingZones.update(tower);
+        towerScheduler.add(tower);
+        onTowerHealthChanged(tower);
+    }
+
+    /**
+     * Called when a tower is sold, killed or unloaded
+     */
+    public void onTowerRemoved(BaseTowerEntity tower) {
+        towerIndex.remove(tower);
+        blockingZones.remove(tower);
+        towerScheduler.remove(tower);
+        damagedTowers.remove(tower);
+    }
+
+    /**
+     * Called whenever a tower's health changes - keeps the damaged tower set up to date
+     */
+    public void onTowerHealthChanged(BaseTowerEntity tower) {
+        if (tower.isAlive() && tower.getHealth() < tower.getMaxHealth()) {
+            damagedTowers.add(tower);
+        } else {
+            damagedTowers.remove(tower);
+        }
+    }
+
+    /**
+     * Whether any tower in this level is below full health
+     */
+    public boolean hasDamagedTowers() {
+        return !damagedTowers.isEmpty();
+    }
+
+    /**
+     * Called when a tower walked or blinked to a new position
+     */
+    public void onTowerMoved(BaseTowerEntity tower) {
+        towerIndex.update(tower);
+        blockingZones.update(tower);
+    }
+
+    /**
+     * Called at the start of the level tick, before any entity ticks
+     * This is the tower phase: the enemy grid is refreshed, then every tower that is due acts
+     */
+    public void preTick() {
+        enemyIndex.rebuild();
+        pathIndex.refresh();
+        
+        // Persistent zones pulse before towers act, so zones created this tick wait for their next interval
+        zones.refreshEnemies();
+        zones.tick(level.getGameTime());
+        
+        towerScheduler.advance(level.getGameTime());
+        
+        // Apply everything the towers hit this tick in one pass
+        damageQueue.flush();
+    }
+
+    /**
+     * Called at the end of the level tick, after all entities ticked
+     */
+    public void postTick() {
+        damageQueue.flush();
+        sendStatusChanges();
+        combatEvents.flush();
+        panelSync.flush();
+    }
+
+    /**
+     * Send every status change of this tick to the players tracking the changed enemy.
+     * Players who start tracking an enemy later get its current status from the enemy itself.
+     */
+    private void sendStatusChanges() {
+        if (statusChanges.isEmpty()) return;
+        
+        long gameTime = level.getGameTime();
+        for (BaseEnemyEntity enemy : statusChanges) {
+            if (!enemy.isAlive()) continue;
+            PacketDistributor.sendToPlayersTrackingEntity(enemy,
+                new EnemyStatusPacket(List.of(EnemyStatusPacket.Entry.of(enemy, gameTime))));
+        }
+        statusChanges.clear();
+    }
+
+    /**
+     * Whether any enemies are currently present in the level
+     */
+    public boolean hasEnemies() {
+        return enemyIndex.size() > 0;
+    }
+
+    public ServerLevel getLevel() { return level; }
+    public EnemySpatialIndex getEnemyIndex() { return enemyIndex; }
+    public PathProgressIndex getPathIndex() { return pathIndex; }
+    public TowerSpatialIndex getTowerIndex() { return towerIndex; }
+    public BlockingZoneIndex getBlockingZones() { return blockingZones; }
+    public TowerScheduler getTowerScheduler() { return towerScheduler; }
+    public DamageQueue getDamageQueue() { return damageQueue; }
+    public AreaQuery getAreaQuery() { return areaQuery; }
+    public ZoneManager getZones() { return zones; }
+    public CombatEventBuffer getCombatEvents() { return combatEvents; }
+    public TowerPanelSync getPanelSync() { return panelSync; }
+    public ReferenceLinkedOpenHashSet<BaseTowerEntity> getDamagedTowers() { return damagedTowers; }
+}
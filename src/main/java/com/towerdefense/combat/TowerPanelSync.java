@@ -0,0 +1,140 @@
+package com.towerdefense.combat;
+
+import com.towerdefense.entity.tower.BaseTowerEntity;
+import com.towerdefense.network.TowerPanelPacket;
+import com.towerdefense.sim.TowerStats;
+import it.unimi.dsi.fastutil.objects.ObjectIterator;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectMap;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.server.level.ServerPlayer;
+import net.neoforged.neoforge.network.PacketDistributor;
+
+/**
+ * Per-level subscriptions of players to the side panel values of the tower they selected.
+ *
+ * TowerStats and ability cooldowns only exist on the server. Selecting a tower subscribes the
+ * player: the first update carries every field, later ones only the fields that changed since
+ * the last update. Cooldowns are compared by the game time they finish, so a running cooldown
+ * is sent once when it starts rather than every tick. Towers nobody selected are never sent.
+ */
+public class TowerPanelSync {
+
+    private final ServerLevel level;
+    private final Reference2ObjectOpenHashMap<ServerPlayer, Subscription> subscriptions = new Reference2ObjectOpenHashMap<>();
+
+    public TowerPanelSync(ServerLevel level) {
+        this.level = level;
+    }
+
+    /**
+     * Start sending a tower's panel to a player, replacing the player's previous tower
+     */
+    public void subscribe(ServerPlayer player, BaseTowerEntity tower) {
+        subscriptions.put(player, new Subscription(tower));
+    }
+
+    /**
+     * Stop sending a tower's panel to a player (ignored if the player moved on to another tower)
+     */
+    public void unsubscribe(ServerPlayer player, BaseTowerEntity tower) {
+        Subscription subscription = subscriptions.get(player);
+        if (subscription != null && subscription.tower == tower) {
+            subscriptions.remove(player);
+        }
+    }
+
+    /**
+     * Send every subscriber the fields of its tower that changed this tick
+     */
+    public void flush() {
+        if (subscriptions.isEmpty()) return;
+
+        long gameTime = level.getGameTime();
+        ObjectIterator<Reference2ObjectMap.Entry<ServerPlayer, Subscription>> iterator = subscriptions.reference2ObjectEntrySet().fastIterator();
+        while (iterator.hasNext()) {
+            Reference2ObjectMap.Entry<ServerPlayer, Subscription> entry = iterator.next();
+            ServerPlayer player = entry.getKey();
+            Subscription subscription = entry.getValue();
+            if (player.hasDisconnected() || player.level() != level || !subscription.tower.isAlive()) {
+                iterator.remove();
+                continue;
+            }
+
+            TowerPanelPacket packet = subscription.update(gameTime);
+            if (packet != null) {
+                PacketDistributor.sendToPlayer(player, packet);
+            }
+        }
+    }
+
+    /**
+     * The values a subscriber last received
+     */
+    private static class Subscription {
+        final BaseTowerEntity tower;
+        boolean sent;
+        int level;
+        float health;
+        float maxHealth;
+        float damage;
+        float range;
+        float attackSpeed;
+        int aggroLimit;
+        int upgradeCost;
+        int sellValue;
+        long[] readyAt = new long[0];
+
+        Subscription(BaseTowerEntity tower) {
+            this.tower = tower;
+        }
+
+        /**
+         * Record the current values and build a packet of the changed ones
+         * @return The update, or null if nothing changed
+         */
+        TowerPanelPacket update(long gameTime) {
+            TowerStats stats = tower.getStats();
+            int abilityCount = tower.getAbilities().size();
+            int[] cooldowns = new int[abilityCount];
+            boolean cooldownsChanged = readyAt.length != abilityCount;
+            if (cooldownsChanged) {
+                readyAt = new long[abilityCount];
+            }
+            for (int i = 0; i < abilityCount; i++) {
+                cooldowns[i] = tower.getAbilityCooldown(i, gameTime);
+                long ready = gameTime + cooldowns[i];
+                if (ready != readyAt[i] && (cooldowns[i] > 0 || readyAt[i] > gameTime)) {
+                    cooldownsChanged = true;
+                }
+                readyAt[i] = ready;
+            }
+
+            int mask = sent ? 0 : TowerPanelPacket.FULL | TowerPanelPacket.ALL_FIELDS;
+            if (stats.getLevel() != level) mask |= TowerPanelPacket.LEVEL;
+            if (stats.getCurrentHealth() != health) mask |= TowerPanelPacket.HEALTH;
+            if (stats.getMaxHealth() != maxHealth) mask |= TowerPanelPacket.MAX_HEALTH;
+            if (stats.getDamage() != damage) mask |= TowerPanelPacket.DAMAGE;
+            if (stats.getRange() != range) mask |= TowerPanelPacket.RANGE;
+            if (stats.getAttackSpeed() != attackSpeed) mask |= TowerPanelPacket.ATTACK_SPEED;
+            if (stats.getAggroLimit() != aggroLimit) mask |= TowerPanelPacket.AGGRO_LIMIT;
+            if (stats.getUpgradeCost() != upgradeCost) mask |= TowerPanelPacket.UPGRADE_COST;
+            if (stats.getSellValue() != sellValue) mask |= TowerPanelPacket.SELL_VALUE;
+            if (cooldownsChanged) mask |= TowerPanelPacket.COOLDOWNS;
+            if (mask == 0) return null;
+
+            sent = true;
+            level = stats.getLevel();
+            health = stats.getCurrentHealth();
+            maxHealth = stats.getMaxHealth();
+            damage = stats.getDamage();
+            range = stats.getRange();
+            attackSpeed = stats.getAttackSpeed();
+            aggroLimit = stats.getAggroLimit();
+            upgradeCost = stats.getUpgradeCost();
+            sellValue = stats.getSellValue();
+            return new TowerPanelPacket(tower.getId(), mask, level, health, maxHealth, damage, range, attackSpeed,
+                    aggroLimit, upgradeCost, sellValue, cooldowns);
+        }
+    }
+}
@@ -0,0 +1,186 @@
+package com.towerdefense.combat;
+
+import com.towerdefense.entity.tower.BaseTowerEntity;
+import it.unimi.dsi.fastutil.objects.Reference2LongOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ReferenceLinkedOpenHashSet;
+import net.minecraft.server.level.ServerLevel;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Per-level timing wheel that drives tower combat updates.
+ *
+ * Towers register the game tick at which they next need attention (attack ready,
+ * active ability running, idle rescan) and the wheel only wakes the ones that are due.
+ * Towers with nothing to do and no enemies in the level are parked until an enemy joins.
+ */
+public class TowerScheduler {
+
+    public static final long NO_WAKE = Long.MAX_VALUE;
+
+    // 256 slots - delays longer than one rotation simply stay in their slot for another lap
+    private static final int WHEEL_BITS = 8;
+    private static final int WHEEL_SIZE = 1 << WHEEL_BITS;
+    private static final int WHEEL_MASK = WHEEL_SIZE - 1;
+
+    // Retry delay for towers sitting in chunks that are not entity-ticking
+    private static final int NOT_TICKING_RETRY_TICKS = 20;
+
+    private final ServerLevel level;
+    private final List<BaseTowerEntity>[] slots;
+    private final Reference2LongOpenHashMap<BaseTowerEntity> wakeTimes;
+    private final ReferenceLinkedOpenHashSet<BaseTowerEntity> parked;
+    private final List<BaseTowerEntity> due;
+    private long lastProcessedTick;
+    private boolean started;
+
+    @SuppressWarnings("unchecked")
+    public TowerScheduler(ServerLevel level) {
+        this.level = level;
+        this.slots = new List[WHEEL_SIZE];
+        for (int i = 0; i < WHEEL_SIZE; i++) {
+            slots[i] = new ArrayList<>();
+        }
+        this.wakeTimes = new Reference2LongOpenHashMap<>();
+        this.wakeTimes.defaultReturnValue(NO_WAKE);
+        this.parked = new ReferenceLinkedOpenHashSet<>();
+        this.due = new ArrayList<>();
+    }
+
+    /**
+     * Register a tower that was added to the level - it is woken on the next processed tick
+     */
+    public void add(BaseTowerEntity tower) {
+        schedule(tower, nextTick());
+    }
+
+    /**
+     * Forget a tower that left the level (stale wheel entries are dropped lazily)
+     */
+    public void remove(BaseTowerEntity tower) {
+        wakeTimes.removeLong(tower);
+        parked.remove(tower);
+    }
+
+    /**
+     * Schedule a tower's next combat update, replacing any earlier request
+     */
+    public void schedule(BaseTowerEntity tower, long wakeTime) {
+        wakeTime = Math.max(wakeTime, nextTick());
+        parked.remove(tower);
+
+        long previous = wakeTimes.put(tower, wakeTime);
+        if (previous != NO_WAKE && slotOf(previous) == slotOf(wakeTime)) {
+            // The existing wheel entry already sits in the right slot
+            return;
+        }
+        slots[slotOf(wakeTime)].add(tower);
+    }
+
+    /**
+     * Park a tower that has nothing to do until enemies show up
+     */
+    public void park(BaseTowerEntity tower) {
+        wakeTimes.removeLong(tower);
+        parked.add(tower);
+    }
+
+    /**
+     * Wake every parked tower on the next processed tick (called when an enemy joins)
+     */
+    public void wakeParked() {
+        if (parked.isEmpty()) return;
+
+        long wakeTime = nextTick();
+        for (BaseTowerEntity tower : parked) {
+            long previous = wakeTimes.put(tower, wakeTime);
+            if (previous == NO_WAKE || slotOf(previous) != slotOf(wakeTime)) {
+                slots[slotOf(wakeTime)].add(tower);
+            }
+        }
+        parked.clear();
+    }
+
+    /**
+     * Process every slot up to the given game time and wake the towers that are due
+     */
+    public void advance(long gameTime) {
+        if (!started) {
+            started = true;
+            lastProcessedTick = gameTime - 1;
+        }
+
+        // After a long stall, visiting every slot once is enough to catch everything that is due
+        long from = Math.max(lastProcessedTick + 1, gameTime - WHEEL_MASK);
+        for (long tick = from; tick <= gameTime; tick++) {
+            lastProcessedTick = tick;
+            processSlot((int) (tick & WHEEL_MASK), gameTime);
+        }
+        lastProcessedTick = Math.max(lastProcessedTick, gameTime);
+    }
+
+    /**
+     * Number of towers waiting in the wheel (excluding parked towers)
+     */
+    public int getScheduledCount() {
+        return wakeTimes.size();
+    }
+
+    public int getParkedCount() {
+        return parked.size();
+    }
+
+    private void processSlot(int slotIndex, long now) {
+        List<BaseTowerEntity> slot = slots[slotIndex];
+        int size = slot.size();
+        if (size == 0) return;
+
+        // Pull the due towers out first so they can reschedule into this slot while waking
+        int kept = 0;
+        for (int i = 0; i < size; i++) {
+            BaseTowerEntity tower = slot.get(i);
+            long wakeTime = wakeTimes.getLong(tower);
+            if (wakeTime == NO_WAKE || slotOf(wakeTime) != slotIndex) {
+                // Stale entry - the tower was removed, parked or rescheduled elsewhere
+                continue;
+            }
+            if (wakeTime <= now) {
+                wakeTimes.removeLong(tower);
+                due.add(tower);
+            } else {
+                slot.set(kept++, tower);
+            }
+        }
+        slot.subList(kept, size).clear();
+
+        for (int i = 0; i < due.size(); i++) {
+            wake(due.get(i), now);
+        }
+        due.clear();
+    }
+
+    private void wake(BaseTowerEntity tower, long now) {
+        if (tower.isRemoved()) return;
+
+        if (!level.isPositionEntityTicking(tower.blockPosition())) {
+            schedule(tower, now + NOT_TICKING_RETRY_TICKS);
+            return;
+        }
+
+        long next = tower.tickCombat(now);
+        if (next == NO_WAKE) {
+            park(tower);
+        } else {
+            schedule(tower, next);
+        }
+    }
+
+    private long nextTick() {
+        return started ? lastProcessedTick + 1 : level.getGameTime();
+    }
+
+    private static int slotOf(long tick) {
+        return (int) (tick & WHEEL_MASK);
+    }
+}
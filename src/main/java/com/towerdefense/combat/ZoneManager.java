@@ -0,0 +1,213 @@
+package com.towerdefense.combat;
+
+import com.towerdefense.entity.enemy.BaseEnemyEntity;
+import com.towerdefense.spatial.SpatialGrid;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ObjectIterator;
+import it.unimi.dsi.fastutil.objects.Reference2LongMap;
+import it.unimi.dsi.fastutil.objects.Reference2LongOpenHashMap;
+import net.minecraft.server.level.ServerLevel;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Per-level registry of persistent area zones and their members.
+ *
+ * Every enemy is remembered with the grid cell it stands in. Each tick the enemies' cells are
+ * compared against the remembered ones; only an enemy that crossed into another cell touches
+ * the zone lists, leaving the zones of its old cell and joining those of its new one.
+ * A zone is seeded from the enemy index once when it is created and never queries the world again.
+ *
+ * A zone's slow lasts until the zone expires: it is applied when an enemy enters the zone and
+ * cleared when the enemy leaves, so pulses only send a status update for enemies that came or went.
+ */
+public class ZoneManager {
+
+    private static final int CELL_SHIFT = SpatialGrid.DEFAULT_CELL_SHIFT;
+
+    // Entities are bucketed by position, so cover cells within roughly half a hitbox of the zone
+    private static final double ENTITY_MARGIN = 1.0;
+
+    private final ServerLevel level;
+    private final List<AreaZone> zones = new ArrayList<>();
+    private final Long2ObjectOpenHashMap<List<AreaZone>> zonesByCell = new Long2ObjectOpenHashMap<>();
+    private final Reference2LongOpenHashMap<BaseEnemyEntity> enemyCells = new Reference2LongOpenHashMap<>();
+
+    public ZoneManager(ServerLevel level) {
+        this.level = level;
+    }
+
+    /**
+     * Register a zone and collect the enemies already standing in its cells
+     */
+    public AreaZone add(AreaZone zone) {
+        zones.add(zone);
+        SpatialGrid<BaseEnemyEntity> enemyGrid = LevelCombatState.get(level).getEnemyIndex().getGrid();
+
+        int minCellX = toCell(zone.getX() - zone.getRadius() - ENTITY_MARGIN);
+        int minCellZ = toCell(zone.getZ() - zone.getRadius() - ENTITY_MARGIN);
+        int maxCellX = toCell(zone.getX() + zone.getRadius() + ENTITY_MARGIN);
+        int maxCellZ = toCell(zone.getZ() + zone.getRadius() + ENTITY_MARGIN);
+        for (int cellX = minCellX; cellX <= maxCellX; cellX++) {
+            for (int cellZ = minCellZ; cellZ <= maxCellZ; cellZ++) {
+                if (!covers(zone, cellX, cellZ)) continue;
+
+                long key = SpatialGrid.key(cellX, cellZ);
+                zonesByCell.computeIfAbsent(key, k -> new ArrayList<>(2)).add(zone);
+
+                SpatialGrid.Cell<BaseEnemyEntity> cell = enemyGrid.getCell(key);
+                for (int i = 0; cell != null && i < cell.size(); i++) {
+                    zone.getMembers().add(cell.get(i));
+                }
+            }
+        }
+        return zone;
+    }
+
+    /**
+     * Withdraw a zone before it expires - its members lose the zone's slow right away
+     */
+    public void remove(AreaZone zone) {
+        if (!zones.remove(zone)) return;
+
+        ObjectIterator<Long2ObjectOpenHashMap.Entry<List<AreaZone>>> iterator = zonesByCell.long2ObjectEntrySet().fastIterator();
+        while (iterator.hasNext()) {
+            List<AreaZone> cellZones = iterator.next().getValue();
+            if (cellZones.remove(zone) && cellZones.isEmpty()) {
+                iterator.remove();
+            }
+        }
+        for (BaseEnemyEntity member : zone.getMembers()) {
+            release(zone, member);
+        }
+        zone.getMembers().clear();
+    }
+
+    public void onEnemyAdded(BaseEnemyEntity enemy) {
+        long key = keyAt(enemy);
+        enemyCells.put(enemy, key);
+        enter(enemy, key);
+    }
+
+    public void onEnemyRemoved(BaseEnemyEntity enemy) {
+        if (!enemyCells.containsKey(enemy)) return;
+        leave(enemy, enemyCells.removeLong(enemy));
+    }
+
+    /**
+     * Move enemies that crossed a cell boundary since the last tick between zones
+     */
+    public void refreshEnemies() {
+        ObjectIterator<Reference2LongMap.Entry<BaseEnemyEntity>> iterator = enemyCells.reference2LongEntrySet().fastIterator();
+        while (iterator.hasNext()) {
+            Reference2LongMap.Entry<BaseEnemyEntity> entry = iterator.next();
+            long oldKey = entry.getLongValue();
+            long newKey = keyAt(entry.getKey());
+            if (newKey != oldKey) {
+                entry.setValue(newKey);
+                if (!zonesByCell.isEmpty()) {
+                    leave(entry.getKey(), oldKey);
+                    enter(entry.getKey(), newKey);
+                }
+            }
+        }
+    }
+
+    /**
+     * Expire finished zones and pulse the ones that are due
+     */
+    public void tick(long gameTime) {
+        for (int i = zones.size() - 1; i >= 0; i--) {
+            AreaZone zone = zones.get(i);
+            if (zone.isExpired(gameTime)) {
+                remove(zone);
+            } else if (zone.isPulseDue(gameTime)) {
+                pulse(zone);
+            }
+        }
+    }
+
+    /**
+     * Slow the members inside the zone's exact shape and release the ones that walked out of it.
+     * Enemies that are already slowed by this zone are left alone, so a pulse sends no status update for them.
+     * @return Number of enemies inside the zone
+     */
+    public int pulse(AreaZone zone) {
+        long gameTime = level.getGameTime();
+        int affected = 0;
+        for (BaseEnemyEntity member : zone.getMembers()) {
+            if (!member.isAlive()) continue;
+
+            if (zone.contains(member)) {
+                member.applySlow(zone.getStrength(), (int) (zone.getEndTime() - gameTime));
+                affected++;
+            } else {
+                release(zone, member);
+            }
+        }
+
+        // One combat event for the whole zone - radius and kind share the argument
+        int owner = zone.getOwner() != null ? zone.getOwner().getId() : -1;
+        LevelCombatState.get(level).getCombatEvents().add(CombatEvent.at(CombatEvent.Type.ZONE_PULSE, owner,
+            zone.getX(), zone.getY() + zone.getHeight() / 2, zone.getZ(),
+            CombatEvent.toFixed(zone.getRadius()) * 4 + zone.getKind().ordinal()));
+        return affected;
+    }
+
+    public List<AreaZone> getZones() {
+        return zones;
+    }
+
+    private void enter(BaseEnemyEntity enemy, long key) {
+        List<AreaZone> cellZones = zonesByCell.get(key);
+        if (cellZones == null) return;
+        long gameTime = level.getGameTime();
+        for (int i = 0; i < cellZones.size(); i++) {
+            AreaZone zone = cellZones.get(i);
+            zone.getMembers().add(enemy);
+            if (enemy.isAlive() && zone.contains(enemy)) {
+                enemy.applySlow(zone.getStrength(), (int) (zone.getEndTime() - gameTime));
+            }
+        }
+    }
+
+    private void leave(BaseEnemyEntity enemy, long key) {
+        List<AreaZone> cellZones = zonesByCell.get(key);
+        if (cellZones == null) return;
+        for (int i = 0; i < cellZones.size(); i++) {
+            AreaZone zone = cellZones.get(i);
+            if (zone.getMembers().remove(enemy)) {
+                release(zone, enemy);
+            }
+        }
+    }
+
+    /**
+     * Clear the zone's slow from an enemy, unless another slow has replaced it since
+     */
+    private static void release(AreaZone zone, BaseEnemyEntity enemy) {
+        enemy.clearSlow(zone.getStrength(), zone.getEndTime());
+    }
+
+    /**
+     * Whether a zone's circle (widened by the entity margin) reaches into a cell
+     */
+    private static boolean covers(AreaZone zone, int cellX, int cellZ) {
+        double size = 1 << CELL_SHIFT;
+        double minX = (double) cellX * size;
+        double minZ = (double) cellZ * size;
+        double dx = Math.max(0, Math.max(minX - zone.getX(), zone.getX() - (minX + size)));
+        double dz = Math.max(0, Math.max(minZ - zone.getZ(), zone.getZ() - (minZ + size)));
+        double reach = zone.getRadius() + ENTITY_MARGIN;
+        return dx * dx + dz * dz <= reach * reach;
+    }
+
+    private static long keyAt(BaseEnemyEntity enemy) {
+        return SpatialGrid.key(toCell(enemy.getX()), toCell(enemy.getZ()));
+    }
+
+    private static int toCell(double coord) {
+        return ((int) Math.floor(coord)) >> CELL_SHIFT;
+    }
+}
@@ -0,0 +1,120 @@
+package com.towerdefense.config;
+
+import net.neoforged.neoforge.common.ModConfigSpec;
+
+/**
+ * Server configuration for the tower defense mod
+ * Stored per world in serverconfig/towerdefense-server.toml
+ */
+public class TowerDefenseConfig {
+
+    public static final ModConfigSpec SERVER_SPEC;
+
+    public static final ModConfigSpec.BooleanValue USE_SPATIAL_INDEX;
+    public static final ModConfigSpec.BooleanValue TARGET_RETENTION;
+    public static final ModConfigSpec.IntValue RETARGET_INTERVAL;
+    public static final ModConfigSpec.BooleanValue PARTICLE_LOD;
+    public static final ModConfigSpec.IntValue PARTICLE_FULL_DETAIL_DISTANCE;
+    public static final ModConfigSpec.IntValue PARTICLE_CUTOFF_DISTANCE;
+    public static final ModConfigSpec.IntValue PARTICLE_BUDGET;
+
+    static {
+        ModConfigSpec.Builder builder = new ModConfigSpec.Builder();
+
+        builder.comment("Performance settings").push("performance");
+
+        USE_SPATIAL_INDEX = builder
+                .comment("Use the shared per-tick enemy grid for tower targeting and ability lookups.",
+                        "Disable to fall back to regular entity queries (useful for comparing MSPT).")
+                .define("useSpatialIndex", true);
+
+        builder.pop();
+
+        builder.comment("Tower targeting settings").push("targeting");
+
+        TARGET_RETENTION = builder
+                .comment("Keep attacking the current target while it stays alive and in range,",
+                        "only rescanning for a new target every retargetIntervalTicks.")
+                .define("targetRetention", true);
+
+        RETARGET_INTERVAL = builder
+                .comment("Ticks between full target rescans while a retained target is still valid.")
+                .defineInRange("retargetIntervalTicks", 20, 1, 200);
+
+        builder.pop();
+
+        builder.comment("Combat particle settings - beams and effects are sent to each player as compact events").push("particles");
+
+        PARTICLE_LOD = builder
+                .comment("Thin out effects at mid range and drop them beyond the cutoff distance.",
+                        "Disable to send every effect within the towers' entity tracking range.")
+                .define("lod", true);
+
+        PARTICLE_FULL_DETAIL_DISTANCE = builder
+                .comment("Players within this many blocks of an effect get every beam and effect.")
+                .defineInRange("fullDetailDistance", 16, 1, 128);
+
+        PARTICLE_CUTOFF_DISTANCE = builder
+                .comment("Players further than this many blocks from an effect don't get it at all.",
+                        "Between fullDetailDistance and this distance only every other effect is sent.")
+                .defineInRange("cutoffDistance", 48, 1, 256);
+
+        PARTICLE_BUDGET = builder
+                .comment("Most beams and effects sent to one player per tick, nearest first. 0 for no limit.",
+                        "Effects that start or end a lasting aura (shield, rapid fire) are always sent.")
+                .defineInRange("budgetPerTick", 64, 0, 4096);
+
+        builder.pop();
+
+        SERVER_SPEC = builder.build();
+    }
+
+    /**
+     * Whether towers should query the level's spatial index
+     */
+    public static boolean useSpatialIndex() {
+        return !SERVER_SPEC.isLoaded() || USE_SPATIAL_INDEX.get();
+    }
+
+    /**
+     * Whether towers keep their current target between rescans
+     */
+    public static boolean targetRetention() {
+        return !SERVER_SPEC.isLoaded() || TARGET_RETENTION.get();
+    }
+
+    /**
+     * Ticks between target rescans while retaining a target
+     */
+    public static int retargetInterval() {
+        return SERVER_SPEC.isLoaded() ? RETARGET_INTERVAL.get() : 20;
+    }
+
+    /**
+     * Whether combat effects are thinned and cut off by distance
+     */
+    public static boolean particleLod() {
+        return !SERVER_SPEC.isLoaded() || PARTICLE_LOD.get();
+    }
+
+    /**
+     * Blocks within which players get every combat effect
+     */
+    public static int particleFullDetailDistance() {
+        return SERVER_SPEC.isLoaded() ? PARTICLE_FULL_DETAIL_DISTANCE.get() : 16;
+    }
+
+    /**
+     * Blocks beyond which players get no combat effects
+     */
+    public static int particleCutoffDistance() {
+        return SERVER_SPEC.isLoaded() ? PARTICLE_CUTOFF_DISTANCE.get() : 48;
+    }
+
+    /**
+     * Most combat effects sent to one player per tick, 0 for no limit
+     */
+    public static int particleBudget() {
+        return SERVER_SPEC.isLoaded() ? PARTICLE_BUDGET.get() : 64;
+    }
+}
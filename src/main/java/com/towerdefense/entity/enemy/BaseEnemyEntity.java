@@ -1,12 +1,24 @@
 package com.towerdefense.entity.enemy;
 
+import com.towerdefense.combat.CombatEvent;
+import com.towerdefense.combat.CombatEventBuffer;
+import com.towerdefense.combat.DamageQueue;
+import com.towerdefense.combat.LevelCombatState;
+import com.towerdefense.config.TowerDefenseConfig;
 import com.towerdefense.entity.tower.BaseTowerEntity;
+import com.towerdefense.network.EnemyStatusPacket;
+import com.towerdefense.path.PathData;
+import com.towerdefense.sim.SimPath;
+import com.towerdefense.spatial.BlockingZoneIndex;
+import com.towerdefense.spatial.TowerSpatialIndex;
 import net.minecraft.core.BlockPos;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.nbt.ListTag;
 import net.minecraft.network.syncher.EntityDataAccessor;
 import net.minecraft.network.syncher.EntityDataSerializers;
 import net.minecraft.network.syncher.SynchedEntityData;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.server.level.ServerPlayer;
 import net.minecraft.world.damagesource.DamageSource;
 import net.minecraft.world.entity.EntityType;
 import net.minecraft.world.entity.Mob;
@@ -17,11 +29,13 @@ import net.minecraft.world.entity.ai.goal.Goal;
 import net.minecraft.world.entity.ai.navigation.PathNavigation;
 import net.minecraft.world.level.Level;
 import net.minecraft.world.phys.AABB;
-import net.minecraft.world.phys.Vec3;
+import net.neoforged.neoforge.network.PacketDistributor;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.EnumSet;
 import java.util.List;
+import java.util.function.Predicate;
 
 /**
  * Base class for all enemy entities in tower defense.
@@ -43,8 +57,18 @@ public abstract class BaseEnemyEntity extends PathfinderMob {
     protected int reward; // Currency given when killed
     protected List<BlockPos> pathWaypoints;
     protected int currentWaypointIndex;
+    private int pathRevision; // Bumped whenever pathWaypoints changes so indexes can re-resolve the path
+    private SimPath simPath; // Plain-coordinate copy of pathWaypoints for the shared path rules, null until next needed
     protected BaseTowerEntity blockingTower;
     protected int attackCooldown;
+    private final Predicate<BaseTowerEntity> blockerFilter = this::tryAggroTower;
+    private float pendingDamage; // Tower damage queued for this tick, see DamageQueue
+    private final EnemyStatus status = new EnemyStatus();
+    
+    // Cached blocking-zone lookup, valid while we stay in the same cell and no zone changes
+    private long zoneCellKey;
+    private int zoneRevision = -1;
+    private boolean inBlockingZone;
 
     public BaseEnemyEntity(EntityType<? extends PathfinderMob> entityType, Level level) {
         super(entityType, level);
@@ -85,8 +109,38 @@ public abstract class BaseEnemyEntity extends PathfinderMob {
         this.goalSelector.addGoal(2, new FollowPathGoal(this));
     }
 
+    @Override
+    public void onAddedToLevel() {
+        super.onAddedToLevel();
+        
+        // Register with the level's enemy index for tower targeting
+        if (level() instanceof ServerLevel serverLevel) {
+            LevelCombatState.get(serverLevel).onEnemyAdded(this);
+        }
+    }
+
+    @Override
+    public void onRemovedFromLevel() {
+        super.onRemovedFromLevel();
+        
+        if (level() instanceof ServerLevel serverLevel) {
+            LevelCombatState.get(serverLevel).onEnemyRemoved(this);
+            
+            // Free our slot in the tower's aggro registry (discard, end of path, unload)
+            if (blockingTower != null) {
+                blockingTower.removeAggroedEnemy(this);
+                blockingTower = null;
+            }
+        }
+    }
+
     @Override
     public void tick() {
+        if (!level().isClientSide()) {
+            // Refresh slows, burns and stuns before this tick's movement
+            updateStatus();
+        }
+        
         super.tick();
         
         if (!level().isClientSide()) {
@@ -95,16 +149,102 @@ public abstract class BaseEnemyEntity extends PathfinderMob {
                 attackCooldown--;
             }
             
-            // Check for blocking towers
-            checkForBlockingTower();
+            // Check for blocking towers - only where a tower's blocking zone reaches
+            if (blockingTower != null || isInBlockingZone()) {
+                checkForBlockingTower();
+            }
             
-            // Attack blocking tower if present
-            if (blockingTower != null && blockingTower.isAlive() && attackCooldown <= 0) {
+            // Attack blocking tower if present - stunned enemies can't attack
+            if (blockingTower != null && blockingTower.isAlive() && attackCooldown <= 0 && !status.isStunned()) {
                 attackTower();
             }
         }
     }
 
+    /**
+     * Expire finished status effects and deal burn damage that is due
+     */
+    private void updateStatus() {
+        float burnDamage = status.update(level().getGameTime());
+        if (burnDamage > 0) {
+            BaseTowerEntity source = status.getBurnSource();
+            if (source != null && !source.isRemoved()) {
+                DamageQueue.hurt(source, this, source.getAttackDamageSource(), burnDamage);
+            } else {
+                hurt(damageSources().onFire(), burnDamage);
+            }
+        }
+    }
+
+    @Override
+    public void setSpeed(float speed) {
+        // Slows and stuns scale whatever speed the move control asks for
+        super.setSpeed(speed * status.getSpeedMultiplier());
+    }
+
+    /**
+     * Slow this enemy
+     * @param factor Movement speed multiplier (0.5 = half speed)
+     * @param duration Duration in ticks
+     */
+    public void applySlow(float factor, int duration) {
+        if (status.applySlow(factor, duration, level().getGameTime())) {
+            onStatusChanged();
+        }
+    }
+
+    /**
+     * End a slow early, e.g. when the enemy walks out of a slow pool
+     * @param factor Movement speed multiplier the slow was applied with
+     * @param until Game time the slow was applied to last until
+     */
+    public void clearSlow(float factor, long until) {
+        if (status.clearSlow(factor, until, level().getGameTime())) {
+            onStatusChanged();
+        }
+    }
+
+    /**
+     * Set this enemy on fire
+     * @param damagePerSecond Damage dealt once per second
+     * @param duration Duration in ticks
+     * @param source Tower credited with the burn damage, or null
+     */
+    public void applyBurn(float damagePerSecond, int duration, BaseTowerEntity source) {
+        if (status.applyBurn(damagePerSecond, duration, source, level().getGameTime())) {
+            onStatusChanged();
+        }
+    }
+
+    /**
+     * Stun this enemy - it stops moving and attacking
+     * @param duration Duration in ticks
+     */
+    public void applyStun(int duration) {
+        if (status.applyStun(duration, level().getGameTime())) {
+            onStatusChanged();
+        }
+    }
+
+    /**
+     * Queue the new status for the end-of-tick update to tracking players
+     */
+    private void onStatusChanged() {
+        if (level() instanceof ServerLevel serverLevel && isAddedToLevel()) {
+            LevelCombatState.get(serverLevel).onEnemyStatusChanged(this);
+        }
+    }
+
+    @Override
+    public void startSeenByPlayer(ServerPlayer player) {
+        super.startSeenByPlayer(player);
+        // Only changes are sent while tracked - catch a new watcher up on effects already running
+        EnemyStatusPacket.Entry entry = EnemyStatusPacket.Entry.of(this, level().getGameTime());
+        if (entry.hasAny()) {
+            PacketDistributor.sendToPlayer(player, new EnemyStatusPacket(List.of(entry)));
+        }
+    }
+
     /**
      * Check if there's a tower blocking our path
      */
@@ -121,25 +261,40 @@ public abstract class BaseEnemyEntity extends PathfinderMob {
         }
         
         // Look for towers in our immediate path
-        Vec3 lookDirection = getLookAngle().normalize();
         AABB searchBox = getBoundingBox().inflate(2.0);
         
-        List<BaseTowerEntity> nearbyTowers = level().getEntitiesOfClass(
-            BaseTowerEntity.class, 
-            searchBox,
-            tower -> tower.isAlive() && canTargetTower(tower)
-        );
+        // Take the first nearby tower that can accept aggro
+        BaseTowerEntity tower = TowerSpatialIndex.findTower((ServerLevel) level(), searchBox, blockerFilter);
+        if (tower != null) {
+            blockingTower = tower;
+            entityData.set(IS_ATTACKING_TOWER, true);
+        }
+    }
+
+    /**
+     * Check whether we stand in a cell covered by any tower's blocking zone
+     */
+    protected boolean isInBlockingZone() {
+        if (!TowerDefenseConfig.useSpatialIndex()) {
+            // Index disabled - poll every tick like before
+            return true;
+        }
         
-        if (!nearbyTowers.isEmpty()) {
-            // Find the closest tower that can accept aggro
-            for (BaseTowerEntity tower : nearbyTowers) {
-                if (tower.addAggroedEnemy(this)) {
-                    blockingTower = tower;
-                    entityData.set(IS_ATTACKING_TOWER, true);
-                    break;
-                }
-            }
+        BlockingZoneIndex zones = LevelCombatState.get((ServerLevel) level()).getBlockingZones();
+        long cellKey = zones.cellKeyAt(getX(), getZ());
+        if (cellKey != zoneCellKey || zones.getRevision() != zoneRevision) {
+            zoneCellKey = cellKey;
+            zoneRevision = zones.getRevision();
+            inBlockingZone = zones.isZoned(cellKey);
         }
+        return inBlockingZone;
+    }
+
+    /**
+     * Try to start attacking a nearby tower, registering with its aggro limit
+     */
+    private boolean tryAggroTower(BaseTowerEntity tower) {
+        return canTargetTower(tower) && tower.addAggroedEnemy(this);
     }
 
     /**
@@ -183,12 +338,21 @@ public abstract class BaseEnemyEntity extends PathfinderMob {
         entityData.set(IS_ATTACKING_TOWER, false);
     }
 
+    /**
+     * Re-link to a tower that still had us registered as an attacker in its saved data
+     */
+    public void restoreBlockingTower(BaseTowerEntity tower) {
+        blockingTower = tower;
+        entityData.set(IS_ATTACKING_TOWER, true);
+    }
+
     /**
      * Set the path waypoints for this enemy
      */
     public void setPathWaypoints(List<BlockPos> waypoints) {
         this.pathWaypoints = new ArrayList<>(waypoints);
         this.currentWaypointIndex = 0;
+        onPathChanged();
     }
 
     /**
@@ -196,6 +360,20 @@ public abstract class BaseEnemyEntity extends PathfinderMob {
      */
     public void addWaypoint(BlockPos waypoint) {
         this.pathWaypoints.add(waypoint);
+        onPathChanged();
+    }
+
+    private void onPathChanged() {
+        pathRevision++;
+        // Rebuilt on the next path query, so adding waypoints one by one converts the path once
+        simPath = null;
+    }
+
+    private SimPath getSimPath() {
+        if (simPath == null) {
+            simPath = PathData.toSimPath(pathWaypoints);
+        }
+        return simPath;
     }
 
     /**
@@ -219,15 +397,15 @@ public abstract class BaseEnemyEntity extends PathfinderMob {
      * Check if reached the current waypoint
      */
     public boolean hasReachedWaypoint() {
-        BlockPos waypoint = getCurrentWaypoint();
-        if (waypoint == null) return true;
-        
-        double dist = distanceToSqr(
-            waypoint.getX() + 0.5,
-            waypoint.getY(),
-            waypoint.getZ() + 0.5
-        );
-        return dist < 2.0;
+        return getSimPath().hasReached(currentWaypointIndex, getX(), getY(), getZ());
+    }
+
+    /**
+     * Get how far along the path this enemy is
+     * Integer part is the index of the last waypoint passed, fraction is progress along the current segment
+     */
+    public double getPathProgress() {
+        return getSimPath().progress(currentWaypointIndex, getX(), getZ());
     }
 
     /**
@@ -237,15 +415,42 @@ public abstract class BaseEnemyEntity extends PathfinderMob {
         return pathWaypoints.isEmpty() || currentWaypointIndex >= pathWaypoints.size();
     }
 
+    /**
+     * Set the tower damage queued against this enemy for the current tick
+     */
+    public void setPendingDamage(float pendingDamage) {
+        this.pendingDamage = pendingDamage;
+    }
+
+    /**
+     * Check if damage already queued this tick is enough to kill this enemy
+     * Towers skip doomed enemies instead of wasting shots on them
+     */
+    public boolean isDoomed() {
+        return pendingDamage > 0 && getLandingDamage(pendingDamage) >= getHealth();
+    }
+
+    /**
+     * Damage a single hurt() of the given amount would deal right now.
+     * During the first half of the vanilla hurt cooldown only damage above the previous hit lands,
+     * so a merged hit on an enemy struck last tick can fall short of the queued amount.
+     */
+    public float getLandingDamage(float amount) {
+        if (invulnerableTime > 10) {
+            return Math.max(0, amount - lastHurt);
+        }
+        return amount;
+    }
+
     @Override
     public void die(DamageSource source) {
-        // Notify the tower that killed this enemy (for Recollection ability)
-        if (source.getEntity() instanceof com.towerdefense.entity.tower.AilyonTowerEntity ailyon) {
-            ailyon.onKillEnemy();
-        }
+        // Kill credit for towers is handled by the DamageQueue
         
         // Clear aggro before dying
         clearBlockingTower();
+        if (!level().isClientSide()) {
+            CombatEventBuffer.post(this, CombatEvent.Type.DEATH, 0);
+        }
         super.die(source);
     }
 
@@ -253,7 +458,11 @@ public abstract class BaseEnemyEntity extends PathfinderMob {
     public float getDamageAmount() { return damage; }
     public int getReward() { return reward; }
     public boolean isAttackingTower() { return entityData.get(IS_ATTACKING_TOWER); }
+    public List<BlockPos> getPathWaypoints() { return Collections.unmodifiableList(pathWaypoints); }
+    public int getCurrentWaypointIndex() { return currentWaypointIndex; }
+    public int getPathRevision() { return pathRevision; }
     public BaseTowerEntity getBlockingTower() { return blockingTower; }
+    public EnemyStatus getStatus() { return status; }
 
     @Override
     public void addAdditionalSaveData(CompoundTag compound) {
@@ -274,6 +483,11 @@ public abstract class BaseEnemyEntity extends PathfinderMob {
             waypointList.add(posTag);
         }
         compound.put("PathWaypoints", waypointList);
+        
+        // Save status effects as remaining ticks
+        CompoundTag statusTag = new CompoundTag();
+        status.save(statusTag, level().getGameTime());
+        compound.put("Status", statusTag);
     }
 
     @Override
@@ -304,6 +518,11 @@ public abstract class BaseEnemyEntity extends PathfinderMob {
                 int z = posTag.getInt("Z");
                 pathWaypoints.add(new BlockPos(x, y, z));
             }
+            onPathChanged();
+        }
+        
+        if (compound.contains("Status")) {
+            status.load(compound.getCompound("Status"), level().getGameTime());
         }
     }
 
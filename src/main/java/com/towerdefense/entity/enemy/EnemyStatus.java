@@ -0,0 +1,173 @@
+package com.towerdefense.entity.enemy;
+
+import com.towerdefense.entity.tower.BaseTowerEntity;
+import net.minecraft.nbt.CompoundTag;
+
+/**
+ * Tower defense status effects on one enemy: slow, burn and stun.
+ *
+ * Each effect is a couple of plain fields with an expiry game time, so applying one is a few
+ * writes and checking one is a comparison - no attribute modifiers and no vanilla effect sync.
+ * The enemy refreshes its status once per tick before moving and scales its movement speed
+ * by {@link #getSpeedMultiplier()}.
+ */
+public class EnemyStatus {
+
+    public static final int FLAG_SLOW = 1;
+    public static final int FLAG_BURN = 2;
+    public static final int FLAG_STUN = 4;
+
+    private static final int BURN_INTERVAL = 20; // Burn damage is dealt once per second
+
+    private float slowFactor = 1.0f; // Movement speed multiplier while slowed
+    private long slowUntil;
+    private float burnDamage; // Damage per second
+    private long burnUntil;
+    private long nextBurnAt = Long.MAX_VALUE; // Game time of the next burn hit
+    private BaseTowerEntity burnSource;
+    private long stunUntil;
+
+    // Refreshed once per tick by update()
+    private float speedMultiplier = 1.0f;
+    private int activeFlags;
+
+    /**
+     * Slow the enemy. A stronger slow replaces a weaker one, an equal one extends it,
+     * and a weaker one is ignored while the stronger one lasts.
+     * @param factor Movement speed multiplier (0.5 = half speed)
+     * @return true if the slow was applied or extended
+     */
+    public boolean applySlow(float factor, int duration, long gameTime) {
+        long until = gameTime + duration;
+        boolean active = slowUntil > gameTime;
+        if (active && (factor > slowFactor || (factor == slowFactor && until <= slowUntil))) {
+            return false;
+        }
+
+        slowFactor = factor;
+        slowUntil = until;
+        return true;
+    }
+
+    /**
+     * End a slow early, unless a different slow has replaced it since it was applied
+     * @param factor Movement speed multiplier the slow was applied with
+     * @param until Game time the slow was applied to last until
+     * @return true if the slow was removed
+     */
+    public boolean clearSlow(float factor, long until, long gameTime) {
+        if (slowUntil <= gameTime || slowUntil != until || slowFactor != factor) {
+            return false;
+        }
+
+        slowUntil = gameTime;
+        return true;
+    }
+
+    /**
+     * Set the enemy on fire. The strongest burn wins; an equal burn is extended.
+     * @param damagePerSecond Damage dealt once per second
+     * @param source Tower credited with burn damage, or null
+     * @return true if the burn was applied or extended
+     */
+    public boolean applyBurn(float damagePerSecond, int duration, BaseTowerEntity source, long gameTime) {
+        long until = gameTime + duration;
+        boolean active = burnUntil > gameTime;
+        if (active && (damagePerSecond < burnDamage || (damagePerSecond == burnDamage && until <= burnUntil))) {
+            return false;
+        }
+
+        if (!active) {
+            // Hits are counted from when the burn started, a burn that is still running keeps its rhythm
+            nextBurnAt = gameTime + BURN_INTERVAL;
+        }
+        burnDamage = damagePerSecond;
+        burnUntil = until;
+        burnSource = source;
+        return true;
+    }
+
+    /**
+     * Stun the enemy - it neither moves nor attacks until the stun ends
+     * @return true if the stun was applied or extended
+     */
+    public boolean applyStun(int duration, long gameTime) {
+        long until = gameTime + duration;
+        if (until <= stunUntil) return false;
+
+        stunUntil = until;
+        return true;
+    }
+
+    /**
+     * Expire finished effects and recompute the movement multiplier
+     * @return Burn damage due this tick, or 0
+     */
+    public float update(long gameTime) {
+        activeFlags = 0;
+        speedMultiplier = 1.0f;
+
+        if (slowUntil > gameTime) {
+            activeFlags |= FLAG_SLOW;
+            speedMultiplier = slowFactor;
+        }
+        if (stunUntil > gameTime) {
+            activeFlags |= FLAG_STUN;
+            speedMultiplier = 0.0f;
+        }
+
+        if (burnUntil > gameTime) {
+            activeFlags |= FLAG_BURN;
+        }
+        // One hit per whole second since the burn started, including the tick it runs out
+        if (gameTime >= nextBurnAt && nextBurnAt <= burnUntil) {
+            nextBurnAt += BURN_INTERVAL;
+            return burnDamage;
+        }
+        if (burnUntil <= gameTime && burnSource != null) {
+            burnSource = null;
+        }
+        return 0;
+    }
+
+    /**
+     * Remaining ticks of an effect, 0 when inactive
+     */
+    public int getRemainingTicks(int flag, long gameTime) {
+        long until = switch (flag) {
+            case FLAG_SLOW -> slowUntil;
+            case FLAG_BURN -> burnUntil;
+            case FLAG_STUN -> stunUntil;
+            default -> 0;
+        };
+        return (int) Math.max(0, until - gameTime);
+    }
+
+    public float getSpeedMultiplier() { return speedMultiplier; }
+    public boolean isStunned() { return (activeFlags & FLAG_STUN) != 0; }
+    public boolean hasAny() { return activeFlags != 0; }
+    public BaseTowerEntity getBurnSource() { return burnSource; }
+
+    public void save(CompoundTag tag, long gameTime) {
+        tag.putFloat("SlowFactor", slowFactor);
+        tag.putInt("SlowTicks", getRemainingTicks(FLAG_SLOW, gameTime));
+        tag.putFloat("BurnDamage", burnDamage);
+        tag.putInt("BurnTicks", getRemainingTicks(FLAG_BURN, gameTime));
+        if (burnUntil > gameTime) {
+            tag.putInt("BurnNextTicks", (int) (nextBurnAt - gameTime));
+        }
+        tag.putInt("StunTicks", getRemainingTicks(FLAG_STUN, gameTime));
+    }
+
+    public void load(CompoundTag tag, long gameTime) {
+        slowFactor = tag.getFloat("SlowFactor");
+        slowUntil = gameTime + tag.getInt("SlowTicks");
+        burnDamage = tag.getFloat("BurnDamage");
+        int burnTicks = tag.getInt("BurnTicks");
+        burnUntil = gameTime + burnTicks;
+        if (burnTicks > 0) {
+            nextBurnAt = gameTime + (tag.contains("BurnNextTicks") ? tag.getInt("BurnNextTicks") : BURN_INTERVAL);
+        }
+        stunUntil = gameTime + tag.getInt("StunTicks");
+    }
+}
@@ -1,5 +1,6 @@
 package com.towerdefense.entity.enemy;
 
+import com.towerdefense.sim.EnemyType;
 import net.minecraft.world.entity.EntityType;
 import net.minecraft.world.entity.ai.attributes.AttributeSupplier;
 import net.minecraft.world.entity.ai.attributes.Attributes;
@@ -26,9 +27,9 @@ public class ZombieEnemyEntity extends BaseEnemyEntity {
 
     @Override
     protected void initializeStats() {
-        this.damage = 5.0f;
-        this.attackSpeed = 1.0f; // 1 attack per second
-        this.reward = 10; // Gold given when killed
+        this.damage = EnemyType.ZOMBIE.getDamage();
+        this.attackSpeed = EnemyType.ZOMBIE.getAttackSpeed(); // 1 attack per second
+        this.reward = EnemyType.ZOMBIE.getReward(); // Gold given when killed
     }
 
     @Override
@@ -38,8 +39,8 @@ public class ZombieEnemyEntity extends BaseEnemyEntity {
 
     public static AttributeSupplier.Builder createAttributes() {
         return BaseEnemyEntity.createAttributes()
-                .add(Attributes.MAX_HEALTH, 50.0D)
-                .add(Attributes.MOVEMENT_SPEED, 0.2D)
-                .add(Attributes.ATTACK_DAMAGE, 5.0D);
+                .add(Attributes.MAX_HEALTH, EnemyType.ZOMBIE.getMaxHealth())
+                .add(Attributes.MOVEMENT_SPEED, EnemyType.ZOMBIE.getMovementSpeed())
+                .add(Attributes.ATTACK_DAMAGE, EnemyType.ZOMBIE.getDamage());
     }
 }
@@ -0,0 +1,69 @@
+package com.towerdefense.entity.tower;
+
+import java.util.Arrays;
+
+/**
+ * Compact set of the entity ids of enemies currently attacking a tower.
+ * Aggro limits are small, so a flat int array beats any hashed collection
+ * and never boxes. Entries are removed by the enemies themselves when they
+ * switch target, die or leave the level.
+ */
+public class AggroRegistry {
+
+    private int[] ids = new int[4];
+    private int size;
+
+    /**
+     * Register an enemy id
+     * @return true if the id is registered afterwards (already present or added within the limit)
+     */
+    public boolean add(int id, int limit) {
+        if (contains(id)) {
+            return true;
+        }
+        if (size >= limit) {
+            return false;
+        }
+        if (size == ids.length) {
+            ids = Arrays.copyOf(ids, size * 2);
+        }
+        ids[size++] = id;
+        return true;
+    }
+
+    /**
+     * Unregister an enemy id
+     * @return true if the id was registered
+     */
+    public boolean remove(int id) {
+        for (int i = 0; i < size; i++) {
+            if (ids[i] == id) {
+                // Order does not matter - swap in the last entry
+                ids[i] = ids[--size];
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public boolean contains(int id) {
+        for (int i = 0; i < size; i++) {
+            if (ids[i] == id) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public int get(int index) {
+        return ids[index];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public void clear() {
+        size = 0;
+    }
+}
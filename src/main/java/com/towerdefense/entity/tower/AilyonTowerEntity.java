@@ -3,6 +3,13 @@ package com.towerdefense.entity.tower;
 import com.mojang.authlib.GameProfile;
 import com.mojang.authlib.properties.Property;
 import com.towerdefense.ability.BlinkAbility;
+import com.towerdefense.combat.CombatEvent;
+import com.towerdefense.combat.CombatEventBuffer;
+import com.towerdefense.entity.enemy.BaseEnemyEntity;
+import com.towerdefense.network.BeamPacket;
+import com.towerdefense.sim.TowerStats;
+import com.towerdefense.sim.TowerType;
+import com.towerdefense.spatial.EnemySpatialIndex;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.component.DataComponents;
 import net.minecraft.nbt.CompoundTag;
@@ -17,6 +24,7 @@ import net.minecraft.world.item.component.ResolvableProfile;
 import net.minecraft.world.level.Level;
 import net.minecraft.core.particles.ParticleTypes;
 import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.phys.Vec3;
 
 import java.util.UUID;
 
@@ -39,11 +47,7 @@ import java.util.UUID;
 public class AilyonTowerEntity extends BaseTowerEntity {
 
     // Base stats constants
-    private static final float BASE_DAMAGE = 12.0f;
-    private static final float BASE_RANGE = 8.0f;
-    private static final float BASE_ATTACK_SPEED = 1.2f;
-    private static final float BASE_MAX_HEALTH = 70.0f;
-    private static final int BASE_AGGRO_LIMIT = 1;
+    private static final float BASE_MAX_HEALTH = TowerType.AILYON.getMaxHealth();
     private static final double BASE_MOVEMENT_SPEED = 0.32D;
 
     // Custom skull texture for spectral/ethereal appearance (spectral skull from Minecraft texture database)
@@ -55,6 +59,10 @@ public class AilyonTowerEntity extends BaseTowerEntity {
     private int spectralCharges = 0;
     private static final int MAX_SPECTRAL_CHARGES = 4;
     
+    // Empowered piercing shot
+    private static final int PIERCE_COUNT = 5;
+    private static final double PIERCE_RADIUS = 0.3;
+    
     // Track if next attack is empowered
     private boolean isNextAttackEmpowered = false;
     
@@ -64,13 +72,8 @@ public class AilyonTowerEntity extends BaseTowerEntity {
 
     @Override
     protected TowerStats createDefaultStats() {
-        return new TowerStats(
-            BASE_DAMAGE,        // damage - high single target damage
-            BASE_RANGE,         // range - medium range for assassin playstyle
-            BASE_ATTACK_SPEED,  // attacks per second - moderate attack speed
-            BASE_MAX_HEALTH,    // max health - low health, glass cannon
-            BASE_AGGRO_LIMIT    // aggro limit - assassin focuses on single targets
-        );
+        // High single target damage, medium range, low health - see TowerType
+        return TowerType.AILYON.createStats();
     }
 
     @Override
@@ -179,7 +182,7 @@ public class AilyonTowerEntity extends BaseTowerEntity {
         if (target == null || !target.isAlive()) return;
         
         // Skilled Shooting: Adjust attack cooldown if moving
-        int baseAttackInterval = (int)(20 / stats.getAttackSpeed());
+        int baseAttackInterval = stats.getAttackInterval();
         int attackInterval = baseAttackInterval;
         
         if (isMoving()) {
@@ -212,11 +215,11 @@ public class AilyonTowerEntity extends BaseTowerEntity {
             isNextAttackEmpowered = false;
         } else {
             // Normal attack: Single target
-            target.hurt(damageSources().mobAttack(this), damage);
+            dealDamage(target, damage);
         }
         
         // Trigger attack animation
-        entityData.set(ATTACK_ANIMATION_TICK, 10);
+        startAttackAnimation(DEFAULT_ATTACK_ANIMATION_TICKS);
         
         // Spawn attack particles (spectral themed)
         spawnSpectralAttackParticles(target);
@@ -224,50 +227,27 @@ public class AilyonTowerEntity extends BaseTowerEntity {
     
     /**
      * Perform a piercing attack that hits multiple enemies in a line
+     * The bolt flies from the tower through the primary target out to full range
+     * and hits up to PIERCE_COUNT enemies, nearest first
      */
     private void performPiercingAttack(LivingEntity primaryTarget, float damage) {
         if (level().isClientSide() || !(level() instanceof ServerLevel serverLevel)) return;
         
         // Get direction to primary target
-        double dx = primaryTarget.getX() - getX();
-        double dy = primaryTarget.getY() - getY();
-        double dz = primaryTarget.getZ() - getZ();
-        double length = Math.sqrt(dx * dx + dy * dy + dz * dz);
-        
-        if (length == 0) return;
+        Vec3 start = position().add(0, 1.5, 0);
+        Vec3 aim = primaryTarget.position().add(0, primaryTarget.getBbHeight() / 2, 0);
+        Vec3 direction = aim.subtract(start);
+        if (direction.lengthSqr() == 0) return;
         
-        dx /= length;
-        dy /= length;
-        dz /= length;
+        // Fly at least to range, and always past the primary target (box corners lie beyond range)
+        double length = Math.max(stats.getRange(), direction.length() + 1.0);
+        Vec3 end = start.add(direction.normalize().scale(length));
         
-        // Hit all enemies in a line
-        var enemies = serverLevel.getEntitiesOfClass(
-            net.minecraft.world.entity.Mob.class,
-            getBoundingBox().inflate(stats.getRange()),
-            entity -> entity != this && entity.isAlive()
-        );
-        
-        for (var enemy : enemies) {
-            // Check if enemy is roughly in the line of fire
-            double ex = enemy.getX() - getX();
-            double ey = enemy.getY() - getY();
-            double ez = enemy.getZ() - getZ();
-            double elen = Math.sqrt(ex * ex + ey * ey + ez * ez);
-            
-            if (elen == 0) continue;
-            
-            ex /= elen;
-            ey /= elen;
-            ez /= elen;
-            
-            // Dot product to check alignment
-            double dot = dx * ex + dy * ey + dz * ez;
-            
-            if (dot > 0.8) { // Within cone
-                enemy.hurt(damageSources().mobAttack(this), damage);
-                spawnSpectralAttackParticles(enemy);
-            }
-        }
+        // Hit the enemies along the bolt, walking only the grid cells it crosses
+        EnemySpatialIndex.forEachEnemyOnLine(serverLevel, start, end, PIERCE_RADIUS, PIERCE_COUNT, enemy -> {
+            dealDamage(enemy, damage);
+            spawnSpectralAttackParticles(enemy);
+        });
     }
     
     /**
@@ -279,42 +259,27 @@ public class AilyonTowerEntity extends BaseTowerEntity {
     }
     
     private void spawnSpectralAttackParticles(LivingEntity target) {
-        if (level().isClientSide() || !(level() instanceof ServerLevel serverLevel)) return;
-        
-        // Line of spectral particles from tower to target
-        var start = position().add(0, 1.5, 0);
-        var end = target.position().add(0, target.getBbHeight() / 2, 0);
-        var direction = end.subtract(start).normalize();
-        double distance = start.distanceTo(end);
+        if (level().isClientSide()) return;
         
-        for (double d = 0; d < distance; d += 0.3) {
-            var pos = start.add(direction.scale(d));
-            serverLevel.sendParticles(
-                ParticleTypes.ENCHANTED_HIT,
-                pos.x, pos.y, pos.z,
-                2, 0.05, 0.05, 0.05, 0
-            );
-        }
+        // Line of spectral particles from tower to target, drawn by the clients
+        Vec3 start = position().add(0, 1.5, 0);
+        Vec3 end = target.position().add(0, target.getBbHeight() / 2, 0);
+        BeamPacket.send(this, start, end, BeamPacket.Style.SPECTRAL);
     }
     
     /**
      * Called when this tower kills an enemy
      * Implements Recollection: Drop spectral charge
      */
-    public void onKillEnemy() {
+    @Override
+    public void onKillEnemy(BaseEnemyEntity enemy) {
         if (level().isClientSide()) return;
         
         if (spectralCharges < MAX_SPECTRAL_CHARGES) {
             spectralCharges++;
             
             // Visual feedback
-            if (level() instanceof ServerLevel serverLevel) {
-                serverLevel.sendParticles(
-                    ParticleTypes.SOUL_FIRE_FLAME,
-                    getX(), getY() + 1, getZ(),
-                    10, 0.3, 0.5, 0.3, 0.05
-                );
-            }
+            CombatEventBuffer.post(this, CombatEvent.Type.SPECTRAL_CHARGE, 0);
         }
     }
 
@@ -322,7 +287,7 @@ public class AilyonTowerEntity extends BaseTowerEntity {
         return BaseTowerEntity.createAttributes()
                 .add(Attributes.MAX_HEALTH, BASE_MAX_HEALTH)
                 .add(Attributes.MOVEMENT_SPEED, BASE_MOVEMENT_SPEED) // Fast movement speed
-                .add(Attributes.ATTACK_DAMAGE, BASE_DAMAGE);
+                .add(Attributes.ATTACK_DAMAGE, TowerType.AILYON.getDamage());
     }
     
     @Override
@@ -3,6 +3,8 @@ package com.towerdefense.entity.tower;
 import com.mojang.authlib.GameProfile;
 import com.mojang.authlib.properties.Property;
 import com.towerdefense.ability.MultiShotAbility;
+import com.towerdefense.sim.TowerStats;
+import com.towerdefense.sim.TowerType;
 import net.minecraft.core.component.DataComponents;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.nbt.NbtUtils;
@@ -42,13 +44,7 @@ public class ArcherTowerEntity extends BaseTowerEntity {
 
     @Override
     protected TowerStats createDefaultStats() {
-        return new TowerStats(
-            8.0f,   // damage
-            12.0f,  // range
-            1.5f,   // attacks per second
-            80.0f,  // max health
-            1       // aggro limit (low - archer can only block 1 enemy)
-        );
+        return TowerType.ARCHER.createStats();
     }
 
     @Override
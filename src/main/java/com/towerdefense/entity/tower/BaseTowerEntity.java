@@ -1,7 +1,19 @@
 package com.towerdefense.entity.tower;
 
 import com.towerdefense.ability.TowerAbility;
+import com.towerdefense.combat.CombatEvent;
+import com.towerdefense.combat.CombatEventBuffer;
+import com.towerdefense.combat.DamageQueue;
+import com.towerdefense.combat.LevelCombatState;
+import com.towerdefense.combat.TowerScheduler;
+import com.towerdefense.config.TowerDefenseConfig;
 import com.towerdefense.entity.enemy.BaseEnemyEntity;
+import com.towerdefense.network.BeamPacket;
+import com.towerdefense.spatial.AreaQuery;
+import com.towerdefense.spatial.EnemySpatialIndex;
+import com.towerdefense.spatial.PathProgressIndex;
+import com.towerdefense.sim.TargetingPolicy;
+import com.towerdefense.sim.TowerStats;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.particles.ParticleTypes;
 import net.minecraft.nbt.CompoundTag;
@@ -32,10 +44,9 @@ import net.minecraft.world.phys.Vec3;
 
 import java.util.ArrayList;
 import java.util.EnumSet;
-import java.util.HashSet;
 import java.util.List;
-import java.util.Set;
 import java.util.UUID;
+import java.util.function.Predicate;
 
 /**
  * Base class for all tower entities.
@@ -49,8 +60,18 @@ public abstract class BaseTowerEntity extends PathfinderMob {
 
     // Synced data
     private static final EntityDataAccessor<Boolean> IS_MOVING = SynchedEntityData.defineId(BaseTowerEntity.class, EntityDataSerializers.BOOLEAN);
-    protected static final EntityDataAccessor<Integer> ATTACK_ANIMATION_TICK = SynchedEntityData.defineId(BaseTowerEntity.class, EntityDataSerializers.INT);
+    // Attacks only bump a counter - clients time the swing from their own game clock
+    private static final EntityDataAccessor<Integer> ATTACK_ANIMATION_DURATION = SynchedEntityData.defineId(BaseTowerEntity.class, EntityDataSerializers.INT);
+    private static final EntityDataAccessor<Integer> ATTACK_SEQUENCE = SynchedEntityData.defineId(BaseTowerEntity.class, EntityDataSerializers.INT);
     private static final EntityDataAccessor<Boolean> IS_SELECTED = SynchedEntityData.defineId(BaseTowerEntity.class, EntityDataSerializers.BOOLEAN);
+    private static final EntityDataAccessor<Integer> TARGETING_POLICY = SynchedEntityData.defineId(BaseTowerEntity.class, EntityDataSerializers.INT);
+
+    // How often an idle tower rescans for targets while enemies are in the level
+    private static final int IDLE_RESCAN_TICKS = 4;
+
+    // Length of the attack swing in ticks
+    protected static final int DEFAULT_ATTACK_ANIMATION_TICKS = 10;
+    private static final int MULTI_ATTACK_ANIMATION_TICKS = 15;
 
     // Tower state
     protected TowerStats stats;
@@ -58,14 +79,24 @@ public abstract class BaseTowerEntity extends PathfinderMob {
     protected boolean isInMoveMode;
     protected int attackCooldown;
     protected LivingEntity currentTarget;
-    protected final Set<UUID> aggroedEnemies;
+    protected long lastRetargetTime;
+    private long lastCombatTime = -1;
+    protected final AggroRegistry aggroedEnemies;
+    private List<UUID> pendingAggroUuids; // Aggro loaded from NBT, resolved to entity ids on first use
     protected final List<TowerAbility> abilities;
+    private final TargetSelector targetSelector;
+    private final PathProgressIndex.RangeWindows pathWindows;
+    private final Predicate<BaseEnemyEntity> inRange = this::isInRange; // Reused by the path index search
+    private DamageSource attackDamageSource;
+    private long attackAnimationStart = Long.MIN_VALUE; // Client game time the last synced attack arrived
 
     public BaseTowerEntity(EntityType<? extends PathfinderMob> entityType, Level level) {
         super(entityType, level);
         this.stats = createDefaultStats();
-        this.aggroedEnemies = new HashSet<>();
+        this.aggroedEnemies = new AggroRegistry();
         this.abilities = new ArrayList<>();
+        this.targetSelector = new TargetSelector(this);
+        this.pathWindows = new PathProgressIndex.RangeWindows();
         this.isInMoveMode = false;
         this.attackCooldown = 0;
         
@@ -113,8 +144,10 @@ public abstract class BaseTowerEntity extends PathfinderMob {
     protected void defineSynchedData(SynchedEntityData.Builder builder) {
         super.defineSynchedData(builder);
         builder.define(IS_MOVING, false);
-        builder.define(ATTACK_ANIMATION_TICK, 0);
+        builder.define(ATTACK_ANIMATION_DURATION, DEFAULT_ATTACK_ANIMATION_TICKS);
+        builder.define(ATTACK_SEQUENCE, 0);
         builder.define(IS_SELECTED, false);
+        builder.define(TARGETING_POLICY, TargetingPolicy.CLOSEST.ordinal());
     }
 
     @Override
@@ -128,25 +161,11 @@ public abstract class BaseTowerEntity extends PathfinderMob {
         super.tick();
         
         if (!level().isClientSide()) {
-            // Update attack cooldown
-            if (attackCooldown > 0) {
-                attackCooldown--;
-            }
-            
-            // Update abilities
-            for (TowerAbility ability : abilities) {
-                ability.tick(this);
-            }
+            // Cooldowns, abilities and targeting are driven by the level's TowerScheduler
             
-            // Find and attack targets
-            if (attackCooldown <= 0) {
-                findAndAttackTarget();
-            }
-            
-            // Update animation
-            int animTick = entityData.get(ATTACK_ANIMATION_TICK);
-            if (animTick > 0) {
-                entityData.set(ATTACK_ANIMATION_TICK, animTick - 1);
+            // Keep the tower index in sync while walking to a new spot
+            if (getX() != xo || getZ() != zo) {
+                LevelCombatState.get((ServerLevel) level()).onTowerMoved(this);
             }
         } else {
             // Client-side animation updates
@@ -159,6 +178,124 @@ public abstract class BaseTowerEntity extends PathfinderMob {
         }
     }
     
+    @Override
+    public void onAddedToLevel() {
+        super.onAddedToLevel();
+        if (level() instanceof ServerLevel serverLevel) {
+            LevelCombatState.get(serverLevel).onTowerAdded(this);
+        }
+    }
+    
+    @Override
+    public void onRemovedFromLevel() {
+        super.onRemovedFromLevel();
+        if (level() instanceof ServerLevel serverLevel) {
+            LevelCombatState.get(serverLevel).onTowerRemoved(this);
+        }
+    }
+    
+    @Override
+    public void teleportTo(double x, double y, double z) {
+        super.teleportTo(x, y, z);
+        
+        // Blink and other teleports happen outside the tick - update the tower index right away
+        if (level() instanceof ServerLevel serverLevel) {
+            LevelCombatState.get(serverLevel).onTowerMoved(this);
+        }
+    }
+    
+    /**
+     * Run the combat update for this tower, called by the TowerScheduler when it is due
+     * @param gameTime Current game time
+     * @return Game time at which the tower next needs waking, or TowerScheduler.NO_WAKE to park it
+     */
+    public long tickCombat(long gameTime) {
+        advanceCombatClock(gameTime);
+        
+        // Find and attack targets
+        if (attackCooldown <= 0) {
+            findAndAttackTarget();
+        }
+        
+        long delay;
+        if (attackCooldown > 0) {
+            delay = attackCooldown;
+        } else if (currentTarget != null) {
+            delay = 1;
+        } else if (LevelCombatState.get((ServerLevel) level()).hasEnemies()) {
+            delay = IDLE_RESCAN_TICKS;
+        } else {
+            // Nothing to shoot at - sleep until an enemy joins the level
+            delay = TowerScheduler.NO_WAKE;
+        }
+        
+        for (TowerAbility ability : abilities) {
+            delay = Math.min(delay, ability.getTicksUntilNextUpdate());
+        }
+        
+        // Wake up when a stat modifier runs out
+        if (stats.getNextExpiry() != TowerStats.NO_EXPIRY) {
+            delay = Math.min(delay, Math.max(1, stats.getNextExpiry() - gameTime));
+        }
+        
+        return delay == TowerScheduler.NO_WAKE || delay == TowerAbility.NO_UPDATE
+                ? TowerScheduler.NO_WAKE
+                : gameTime + delay;
+    }
+    
+    /**
+     * Catch the attack cooldown and abilities up to the given game time
+     */
+    protected void advanceCombatClock(long gameTime) {
+        int elapsed = lastCombatTime < 0 ? 1 : (int) Math.min(gameTime - lastCombatTime, Integer.MAX_VALUE);
+        lastCombatTime = gameTime;
+        if (elapsed <= 0) return;
+        
+        // Drop expired buffs before anything reads the stats
+        stats.expireModifiers(gameTime);
+        
+        // Update attack cooldown
+        if (attackCooldown > 0) {
+            attackCooldown = Math.max(0, attackCooldown - elapsed);
+        }
+        
+        // Update abilities
+        for (TowerAbility ability : abilities) {
+            ability.tick(this, elapsed);
+        }
+    }
+    
+    /**
+     * Remaining cooldown of an ability as of the given game time, without waking the tower.
+     * Plain cooldowns are only caught up when the tower wakes, so the stored value can lag behind.
+     */
+    public int getAbilityCooldown(int index, long gameTime) {
+        int remaining = abilities.get(index).getCurrentCooldown();
+        if (lastCombatTime < 0 || remaining <= 0) return remaining;
+        return (int) Math.max(0, remaining - (gameTime - lastCombatTime));
+    }
+    
+    /**
+     * Activate the ability at the given index (player request)
+     * @return true if the ability was activated
+     */
+    public boolean useAbility(int index) {
+        if (index < 0 || index >= abilities.size() || !(level() instanceof ServerLevel serverLevel)) {
+            return false;
+        }
+        
+        // Bring lazily-updated cooldowns up to date before checking them
+        long gameTime = serverLevel.getGameTime();
+        advanceCombatClock(gameTime);
+        
+        boolean activated = abilities.get(index).activate(this, null);
+        if (activated) {
+            // Active effects need ticking - wake the tower so it can reschedule
+            LevelCombatState.get(serverLevel).getTowerScheduler().schedule(this, gameTime);
+        }
+        return activated;
+    }
+    
     /**
      * Spawn particles around selected tower
      */
@@ -187,24 +324,75 @@ public abstract class BaseTowerEntity extends PathfinderMob {
     protected void findAndAttackTarget() {
         if (level().isClientSide()) return;
         
+        long gameTime = level().getGameTime();
+        BaseEnemyEntity target;
+        
+        if (TowerDefenseConfig.targetRetention()
+                && gameTime - lastRetargetTime < TowerDefenseConfig.retargetInterval()
+                && isTargetStillValid()) {
+            // Keep shooting the retained target until the next scheduled rescan
+            target = (BaseEnemyEntity) currentTarget;
+        } else {
+            target = selectTarget();
+            lastRetargetTime = gameTime;
+        }
+        
+        currentTarget = target;
+        if (target != null) {
+            performAttack(target);
+        }
+    }
+
+    /**
+     * Check if the current target is still alive and within range
+     */
+    protected boolean isTargetStillValid() {
+        return currentTarget instanceof BaseEnemyEntity
+                && currentTarget.isAlive()
+                && !((BaseEnemyEntity) currentTarget).isDoomed()
+                && currentTarget.level() == level()
+                && currentTarget.getBoundingBox().intersects(getTargetingBox())
+                && isInRange((BaseEnemyEntity) currentTarget);
+    }
+
+    /**
+     * Check if an enemy's hitbox reaches into the tower's range circle
+     * The targeting box only narrows the candidates down; this is the exact horizontal range check
+     */
+    public boolean isInRange(BaseEnemyEntity enemy) {
+        AABB hitbox = enemy.getBoundingBox();
+        double dx = Math.max(0, Math.max(hitbox.minX - getX(), getX() - hitbox.maxX));
+        double dz = Math.max(0, Math.max(hitbox.minZ - getZ(), getZ() - hitbox.maxZ));
+        return dx * dx + dz * dz <= stats.getRangeSqr();
+    }
+
+    /**
+     * Pick the best enemy in range according to the targeting policy
+     * Single pass over the candidates - no temporary list or sort
+     */
+    protected BaseEnemyEntity selectTarget() {
         ServerLevel serverLevel = (ServerLevel) level();
-        AABB searchBox = new AABB(
+        TargetingPolicy policy = getTargetingPolicy();
+        
+        if (policy.isPathOrdered() && TowerDefenseConfig.useSpatialIndex()) {
+            // First/last on path come straight from the path-progress ordering
+            return LevelCombatState.get(serverLevel).getPathIndex()
+                    .findInBox(getTargetingBox(), policy == TargetingPolicy.FIRST, pathWindows, inRange);
+        }
+        
+        targetSelector.begin(policy);
+        EnemySpatialIndex.forEachEnemy(serverLevel, getTargetingBox(), targetSelector);
+        return targetSelector.finish();
+    }
+
+    /**
+     * Get the box in which this tower can attack enemies
+     */
+    protected AABB getTargetingBox() {
+        return new AABB(
             getX() - stats.getRange(), getY() - 2, getZ() - stats.getRange(),
             getX() + stats.getRange(), getY() + 4, getZ() + stats.getRange()
         );
-        
-        List<BaseEnemyEntity> enemies = serverLevel.getEntitiesOfClass(BaseEnemyEntity.class, searchBox);
-        
-        if (!enemies.isEmpty()) {
-            // Sort by distance, attack closest
-            enemies.sort((a, b) -> Double.compare(
-                a.distanceToSqr(this),
-                b.distanceToSqr(this)
-            ));
-            
-            currentTarget = enemies.get(0);
-            performAttack(currentTarget);
-        }
     }
 
     /**
@@ -213,15 +401,14 @@ public abstract class BaseTowerEntity extends PathfinderMob {
     public void performAttack(LivingEntity target) {
         if (target == null || !target.isAlive()) return;
         
-        // Calculate attack interval in ticks (20 ticks = 1 second)
-        int attackInterval = (int)(20 / stats.getAttackSpeed());
-        attackCooldown = attackInterval;
+        // Attack interval in ticks is cached by the stats
+        attackCooldown = stats.getAttackInterval();
         
         // Apply damage
-        target.hurt(damageSources().mobAttack(this), stats.getDamage());
+        dealDamage(target, stats.getDamage());
         
         // Trigger attack animation
-        entityData.set(ATTACK_ANIMATION_TICK, 10);
+        startAttackAnimation(DEFAULT_ATTACK_ANIMATION_TICKS);
         
         // Spawn attack particles
         spawnAttackParticles(target);
@@ -234,55 +421,99 @@ public abstract class BaseTowerEntity extends PathfinderMob {
         if (level().isClientSide()) return;
         
         ServerLevel serverLevel = (ServerLevel) level();
-        AABB searchBox = new AABB(
-            getX() - stats.getRange(), getY() - 2, getZ() - stats.getRange(),
-            getX() + stats.getRange(), getY() + 4, getZ() + stats.getRange()
-        );
-        
-        List<BaseEnemyEntity> enemies = serverLevel.getEntitiesOfClass(BaseEnemyEntity.class, searchBox);
         
-        int attacked = 0;
-        for (BaseEnemyEntity enemy : enemies) {
-            if (attacked >= targetCount) break;
+        // Hit up to targetCount enemies within the tower's range circle
+        int[] attacked = {0};
+        AreaQuery.of(serverLevel).enemiesInCylinder(getX(), getY() - 2, getZ(), stats.getRange(), 6, enemy -> {
+            if (attacked[0] >= targetCount) return;
             
-            enemy.hurt(damageSources().mobAttack(this), stats.getDamage());
+            dealDamage(enemy, stats.getDamage());
             spawnAttackParticles(enemy);
-            attacked++;
-        }
+            attacked[0]++;
+        });
         
-        entityData.set(ATTACK_ANIMATION_TICK, 15);
+        startAttackAnimation(MULTI_ATTACK_ANIMATION_TICKS);
+    }
+
+    /**
+     * Queue this tower's regular attack damage on a target
+     * Applied together with the tick's other hits when the level's DamageQueue flushes
+     */
+    public void dealDamage(LivingEntity target, float amount) {
+        DamageQueue.hurt(this, target, getAttackDamageSource(), amount);
+    }
+    
+    /**
+     * Damage source for this tower's attacks, created once per tower
+     */
+    public DamageSource getAttackDamageSource() {
+        if (attackDamageSource == null) {
+            attackDamageSource = damageSources().mobAttack(this);
+        }
+        return attackDamageSource;
+    }
+    
+    /**
+     * Called once when damage from this tower kills an enemy
+     */
+    public void onKillEnemy(BaseEnemyEntity enemy) {
     }
 
     /**
      * Spawn particles for attack animation
      */
     protected void spawnAttackParticles(LivingEntity target) {
-        if (level().isClientSide() || !(level() instanceof ServerLevel serverLevel)) return;
+        if (level().isClientSide()) return;
         
-        // Line of particles from tower to target
+        // One beam packet - clients draw the particle line themselves
         Vec3 start = position().add(0, 1.5, 0);
         Vec3 end = target.position().add(0, target.getBbHeight() / 2, 0);
-        Vec3 direction = end.subtract(start).normalize();
-        double distance = start.distanceTo(end);
-        
-        for (double d = 0; d < distance; d += 0.5) {
-            Vec3 pos = start.add(direction.scale(d));
-            serverLevel.sendParticles(
-                ParticleTypes.CRIT,
-                pos.x, pos.y, pos.z,
-                1, 0.1, 0.1, 0.1, 0
-            );
+        BeamPacket.send(this, start, end, BeamPacket.Style.ATTACK);
+    }
+
+    /**
+     * Start an attack swing on every watching client.
+     * Only the sequence counter changes per attack, so the tower is synced once per attack
+     * rather than every tick while the swing plays.
+     */
+    protected void startAttackAnimation(int durationTicks) {
+        if (level().isClientSide()) return;
+        
+        // Duration is defined before the sequence, so a changed length arrives ahead of the attack it belongs to
+        entityData.set(ATTACK_ANIMATION_DURATION, durationTicks);
+        entityData.set(ATTACK_SEQUENCE, entityData.get(ATTACK_SEQUENCE) + 1);
+    }
+
+    @Override
+    public void onSyncedDataUpdated(EntityDataAccessor<?> key) {
+        super.onSyncedDataUpdated(key);
+        // A tower that just came into view carries its old counter - don't replay that attack
+        if (ATTACK_SEQUENCE.equals(key) && level().isClientSide() && tickCount > 0) {
+            attackAnimationStart = level().getGameTime();
         }
     }
 
+    /**
+     * Attack swing progress from 0.0 (start) to 1.0 (complete), or 0 when no swing is playing.
+     * Computed from the client game clock so it interpolates smoothly between ticks.
+     */
+    public float getAttackProgress(float partialTick) {
+        if (attackAnimationStart == Long.MIN_VALUE) return 0.0F;
+        
+        float elapsed = (level().getGameTime() - attackAnimationStart) + partialTick;
+        int duration = Math.max(1, entityData.get(ATTACK_ANIMATION_DURATION));
+        if (elapsed < 0 || elapsed >= duration) return 0.0F;
+        return elapsed / duration;
+    }
+
     /**
      * Client-side animation update
      */
     protected void updateClientAnimation() {
-        int animTick = entityData.get(ATTACK_ANIMATION_TICK);
-        if (animTick > 0) {
-            // Animate arm swing
-            // This would be implemented with custom rendering
+        if (attackAnimationStart != Long.MIN_VALUE
+                && level().getGameTime() - attackAnimationStart >= entityData.get(ATTACK_ANIMATION_DURATION)) {
+            // Swing finished
+            attackAnimationStart = Long.MIN_VALUE;
         }
     }
 
@@ -349,35 +580,44 @@ public abstract class BaseTowerEntity extends PathfinderMob {
      * @return true if the enemy was added, false if aggro limit reached
      */
     public boolean addAggroedEnemy(BaseEnemyEntity enemy) {
-        // Clean up dead enemies periodically (only on server)
-        if (!level().isClientSide() && level() instanceof ServerLevel serverLevel) {
-            aggroedEnemies.removeIf(uuid -> {
-                Entity entity = serverLevel.getEntity(uuid);
-                return entity == null || !entity.isAlive();
-            });
-        }
-        
-        if (aggroedEnemies.size() >= stats.getAggroLimit()) {
-            return false;
-        }
+        resolvePendingAggro();
         
-        aggroedEnemies.add(enemy.getUUID());
-        return true;
+        // Dead or removed enemies unregister themselves, so no cleanup scan is needed here
+        return aggroedEnemies.add(enemy.getId(), stats.getAggroLimit());
     }
 
     /**
      * Remove an enemy from the aggro list
      */
     public void removeAggroedEnemy(BaseEnemyEntity enemy) {
-        aggroedEnemies.remove(enemy.getUUID());
+        aggroedEnemies.remove(enemy.getId());
     }
 
     /**
      * Check if we can aggro more enemies
      */
     public boolean canAggroMore() {
+        resolvePendingAggro();
         return aggroedEnemies.size() < stats.getAggroLimit();
     }
+    
+    /**
+     * Migrate aggro saved as UUIDs (older saves, or enemies saved with this tower) to entity ids.
+     * Enemies that are loaded and still alive are re-linked to this tower, the rest are dropped.
+     */
+    private void resolvePendingAggro() {
+        if (pendingAggroUuids == null || !(level() instanceof ServerLevel serverLevel)) return;
+        
+        List<UUID> pending = pendingAggroUuids;
+        pendingAggroUuids = null;
+        for (UUID uuid : pending) {
+            if (serverLevel.getEntity(uuid) instanceof BaseEnemyEntity enemy && enemy.isAlive()
+                    && enemy.getBlockingTower() == null
+                    && aggroedEnemies.add(enemy.getId(), stats.getAggroLimit())) {
+                enemy.restoreBlockingTower(this);
+            }
+        }
+    }
 
     /**
      * Upgrade the tower
@@ -386,13 +626,7 @@ public abstract class BaseTowerEntity extends PathfinderMob {
         stats.applyUpgrade(1.2f, 1.15f, 1.1f);
         
         // Visual feedback
-        if (level() instanceof ServerLevel serverLevel) {
-            serverLevel.sendParticles(
-                ParticleTypes.HAPPY_VILLAGER,
-                getX(), getY() + 1, getZ(),
-                30, 0.5, 1, 0.5, 0.1
-            );
-        }
+        CombatEventBuffer.post(this, CombatEvent.Type.UPGRADE, 0);
     }
 
     /**
@@ -407,13 +641,7 @@ public abstract class BaseTowerEntity extends PathfinderMob {
      */
     public void sell() {
         // Spawn particles
-        if (level() instanceof ServerLevel serverLevel) {
-            serverLevel.sendParticles(
-                ParticleTypes.CLOUD,
-                getX(), getY() + 1, getZ(),
-                20, 0.5, 0.5, 0.5, 0.1
-            );
-        }
+        CombatEventBuffer.post(this, CombatEvent.Type.SELL, 0);
         
         // Remove entity
         this.discard();
@@ -432,14 +660,41 @@ public abstract class BaseTowerEntity extends PathfinderMob {
         }
         return hurt;
     }
+    
+    @Override
+    public void heal(float amount) {
+        super.heal(amount);
+        stats.heal(amount);
+    }
+    
+    @Override
+    public void setHealth(float health) {
+        super.setHealth(health);
+        
+        // Every hurt and heal ends up here - track which towers need healing
+        if (isAddedToLevel() && level() instanceof ServerLevel serverLevel) {
+            LevelCombatState.get(serverLevel).onTowerHealthChanged(this);
+        }
+    }
 
     // Getters
     public TowerStats getStats() { return stats; }
     public List<TowerAbility> getAbilities() { return abilities; }
     public boolean isMoving() { return entityData.get(IS_MOVING); }
     public BlockPos getMoveTarget() { return moveTarget; }
-    public int getAttackAnimationTick() { return entityData.get(ATTACK_ANIMATION_TICK); }
+    public int getAttackSequence() { return entityData.get(ATTACK_SEQUENCE); }
     public boolean isSelected() { return entityData.get(IS_SELECTED); }
+    public TargetingPolicy getTargetingPolicy() { return TargetingPolicy.byId(entityData.get(TARGETING_POLICY)); }
+    
+    /**
+     * Set how this tower picks its target (synced to clients for the side panel)
+     */
+    public void setTargetingPolicy(TargetingPolicy policy) {
+        entityData.set(TARGETING_POLICY, policy.ordinal());
+        
+        // Force a rescan with the new policy on the next attack
+        currentTarget = null;
+    }
     
     /**
      * Set whether this tower is selected (synced to clients)
@@ -454,9 +709,10 @@ public abstract class BaseTowerEntity extends PathfinderMob {
         
         // Save tower stats
         CompoundTag statsTag = new CompoundTag();
-        statsTag.putFloat("damage", stats.getDamage());
-        statsTag.putFloat("range", stats.getRange());
-        statsTag.putFloat("attackSpeed", stats.getAttackSpeed());
+        // Base values only - timed modifiers are not saved
+        statsTag.putFloat("damage", stats.getBaseDamage());
+        statsTag.putFloat("range", stats.getBaseRange());
+        statsTag.putFloat("attackSpeed", stats.getBaseAttackSpeed());
         statsTag.putFloat("maxHealth", stats.getMaxHealth());
         statsTag.putFloat("currentHealth", stats.getCurrentHealth());
         statsTag.putInt("aggroLimit", stats.getAggroLimit());
@@ -465,6 +721,9 @@ public abstract class BaseTowerEntity extends PathfinderMob {
         statsTag.putInt("sellValue", stats.getSellValue());
         compound.put("TowerStats", statsTag);
         
+        // Save targeting policy
+        compound.putString("TargetingPolicy", getTargetingPolicy().name());
+        
         // Save move target
         if (moveTarget != null) {
             compound.putInt("MoveTargetX", moveTarget.getX());
@@ -472,12 +731,22 @@ public abstract class BaseTowerEntity extends PathfinderMob {
             compound.putInt("MoveTargetZ", moveTarget.getZ());
         }
         
-        // Save aggroed enemies
+        // Save aggroed enemies - entity ids are per-session, so store UUIDs
         ListTag aggroList = new ListTag();
-        for (UUID uuid : aggroedEnemies) {
-            CompoundTag uuidTag = new CompoundTag();
-            uuidTag.putUUID("UUID", uuid);
-            aggroList.add(uuidTag);
+        for (int i = 0; i < aggroedEnemies.size(); i++) {
+            Entity enemy = level().getEntity(aggroedEnemies.get(i));
+            if (enemy != null) {
+                CompoundTag uuidTag = new CompoundTag();
+                uuidTag.putUUID("UUID", enemy.getUUID());
+                aggroList.add(uuidTag);
+            }
+        }
+        if (pendingAggroUuids != null) {
+            for (UUID uuid : pendingAggroUuids) {
+                CompoundTag uuidTag = new CompoundTag();
+                uuidTag.putUUID("UUID", uuid);
+                aggroList.add(uuidTag);
+            }
         }
         compound.put("AggroedEnemies", aggroList);
     }
@@ -500,6 +769,11 @@ public abstract class BaseTowerEntity extends PathfinderMob {
             stats.setSellValue(statsTag.getInt("sellValue"));
         }
         
+        // Load targeting policy
+        if (compound.contains("TargetingPolicy")) {
+            setTargetingPolicy(TargetingPolicy.byName(compound.getString("TargetingPolicy")));
+        }
+        
         // Load move target
         if (compound.contains("MoveTargetX")) {
             moveTarget = new BlockPos(
@@ -512,9 +786,10 @@ public abstract class BaseTowerEntity extends PathfinderMob {
         // Load aggroed enemies
         if (compound.contains("AggroedEnemies")) {
             ListTag aggroList = compound.getList("AggroedEnemies", 10);
+            pendingAggroUuids = new ArrayList<>(aggroList.size());
             for (int i = 0; i < aggroList.size(); i++) {
                 CompoundTag uuidTag = aggroList.getCompound(i);
-                aggroedEnemies.add(uuidTag.getUUID("UUID"));
+                pendingAggroUuids.add(uuidTag.getUUID("UUID"));
             }
         }
     }
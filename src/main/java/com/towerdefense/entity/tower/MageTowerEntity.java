@@ -1,5 +1,7 @@
 package com.towerdefense.entity.tower;
 
+import com.towerdefense.sim.TowerStats;
+import com.towerdefense.sim.TowerType;
 import net.minecraft.core.component.DataComponents;
 import net.minecraft.world.entity.EntityType;
 import net.minecraft.world.entity.EquipmentSlot;
@@ -30,13 +32,7 @@ public class MageTowerEntity extends BaseTowerEntity {
 
     @Override
     protected TowerStats createDefaultStats() {
-        return new TowerStats(
-            10.0f,  // damage (medium-high)
-            15.0f,  // range (high)
-            0.8f,   // attacks per second (slow)
-            60.0f,  // max health (low)
-            1       // aggro limit (low)
-        );
+        return TowerType.MAGE.createStats();
     }
 
     @Override
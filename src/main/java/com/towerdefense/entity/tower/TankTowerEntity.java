@@ -1,5 +1,7 @@
 package com.towerdefense.entity.tower;
 
+import com.towerdefense.sim.TowerStats;
+import com.towerdefense.sim.TowerType;
 import net.minecraft.core.component.DataComponents;
 import net.minecraft.world.entity.EntityType;
 import net.minecraft.world.entity.EquipmentSlot;
@@ -29,13 +31,7 @@ public class TankTowerEntity extends BaseTowerEntity {
 
     @Override
     protected TowerStats createDefaultStats() {
-        return new TowerStats(
-            4.0f,   // damage (low)
-            10.0f,  // range (medium)
-            0.5f,   // attacks per second (slow)
-            200.0f, // max health (very high)
-            5       // aggro limit (high - tank can block 5 enemies)
-        );
+        return TowerType.TANK.createStats();
     }
 
     @Override
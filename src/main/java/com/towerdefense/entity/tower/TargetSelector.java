@@ -0,0 +1,64 @@
+package com.towerdefense.entity.tower;
+
+import com.towerdefense.entity.enemy.BaseEnemyEntity;
+import com.towerdefense.sim.TargetPicker;
+import com.towerdefense.sim.TargetingPolicy;
+
+import java.util.function.Consumer;
+
+/**
+ * Reusable single-pass target picker.
+ * Fed with candidates by an enemy query and keeps only the best one seen so far
+ * according to the tower's targeting policy. The scoring itself is the shared TargetPicker.
+ */
+public class TargetSelector implements Consumer<BaseEnemyEntity>, TargetPicker.Metrics<BaseEnemyEntity> {
+
+    private final BaseTowerEntity tower;
+    private final TargetPicker<BaseEnemyEntity> picker = new TargetPicker<>(this);
+
+    public TargetSelector(BaseTowerEntity tower) {
+        this.tower = tower;
+    }
+
+    /**
+     * Start a new selection pass
+     */
+    public void begin(TargetingPolicy policy) {
+        picker.begin(policy);
+    }
+
+    @Override
+    public void accept(BaseEnemyEntity enemy) {
+        if (enemy.isDoomed()) {
+            // Already dies to damage queued this tick
+            return;
+        }
+        if (!tower.isInRange(enemy)) {
+            // Inside the targeting box but outside the range circle
+            return;
+        }
+        picker.offer(enemy);
+    }
+
+    /**
+     * Finish the pass and return the selected target (or null if none was offered)
+     */
+    public BaseEnemyEntity finish() {
+        return picker.finish();
+    }
+
+    @Override
+    public double distanceSqr(BaseEnemyEntity enemy) {
+        return enemy.distanceToSqr(tower);
+    }
+
+    @Override
+    public double pathProgress(BaseEnemyEntity enemy) {
+        return enemy.getPathProgress();
+    }
+
+    @Override
+    public double health(BaseEnemyEntity enemy) {
+        return enemy.getHealth();
+    }
+}
@@ -1,16 +1,21 @@
 package com.towerdefense.event;
 
 import com.towerdefense.TowerDefenseMod;
+import com.towerdefense.combat.LevelCombatState;
 import com.towerdefense.command.SpawnPathCommand;
 import com.towerdefense.entity.enemy.ZombieEnemyEntity;
 import com.towerdefense.entity.tower.AilyonTowerEntity;
 import com.towerdefense.entity.tower.ArcherTowerEntity;
 import com.towerdefense.registry.ModEntities;
 import com.towerdefense.wave.WaveManager;
+import net.minecraft.server.level.ServerLevel;
 import net.neoforged.bus.api.SubscribeEvent;
 import net.neoforged.fml.common.EventBusSubscriber;
 import net.neoforged.neoforge.event.RegisterCommandsEvent;
 import net.neoforged.neoforge.event.entity.EntityAttributeCreationEvent;
+import net.neoforged.neoforge.event.level.LevelEvent;
+import net.neoforged.neoforge.event.server.ServerStoppedEvent;
+import net.neoforged.neoforge.event.tick.LevelTickEvent;
 import net.neoforged.neoforge.event.tick.ServerTickEvent;
 
 /**
@@ -49,4 +54,32 @@ class GameEventHandlers {
         // Tick wave manager
         WaveManager.tickWaves();
     }
+
+    @SubscribeEvent
+    public static void onLevelTickPre(LevelTickEvent.Pre event) {
+        // Refresh per-level combat state before any entity ticks
+        if (event.getLevel() instanceof ServerLevel serverLevel) {
+            LevelCombatState.get(serverLevel).preTick();
+        }
+    }
+
+    @SubscribeEvent
+    public static void onLevelTickPost(LevelTickEvent.Post event) {
+        // Apply damage queued while entities were ticking
+        if (event.getLevel() instanceof ServerLevel serverLevel) {
+            LevelCombatState.get(serverLevel).postTick();
+        }
+    }
+
+    @SubscribeEvent
+    public static void onLevelUnload(LevelEvent.Unload event) {
+        if (event.getLevel() instanceof ServerLevel serverLevel) {
+            LevelCombatState.remove(serverLevel);
+        }
+    }
+
+    @SubscribeEvent
+    public static void onServerStopped(ServerStoppedEvent event) {
+        LevelCombatState.clearAll();
+    }
 }
@@ -0,0 +1,209 @@
+package com.towerdefense.gametest;
+
+import com.towerdefense.combat.LevelCombatState;
+import com.towerdefense.entity.enemy.BaseEnemyEntity;
+import com.towerdefense.entity.tower.BaseTowerEntity;
+import com.towerdefense.registry.ModEntities;
+import com.towerdefense.wave.WaveManager;
+import com.towerdefense.worldgen.MapGenerator;
+import net.minecraft.core.BlockPos;
+import net.minecraft.gametest.framework.GameTestHelper;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.entity.EntityType;
+import net.minecraft.world.entity.LivingEntity;
+import net.minecraft.world.level.entity.EntityTypeTest;
+import net.minecraft.world.level.levelgen.Heightmap;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * A load scenario for the game test server: generate a map, place towers of every type
+ * on its platforms and send waves of growing size down the path.
+ *
+ * After each wave the server's average tick time must stay within the budget, and the
+ * enemy and tower counts must add up exactly: every spawned enemy is either alive (still
+ * walking or leaked at the path end) or was killed, the level holds exactly those living
+ * enemies and surviving towers, and the enemy index tracks every enemy not yet removed -
+ * including killed ones still playing their death animation.
+ */
+class LoadScenario {
+
+    // Budgets can be scaled for slow CI machines, e.g. -Dtowerdefense.gametest.budgetScale=2
+    private static final double BUDGET_SCALE = Double.parseDouble(System.getProperty("towerdefense.gametest.budgetScale", "1.0"));
+
+    static final int MAP_SIZE = 40;
+    static final BlockPos MAP_CENTER = new BlockPos(24, 1, 24);
+
+    // Each wave spawns over the first SPAWN_TICKS ticks, then the scenario measures at WAVE_TICKS
+    // (the server averages tick times over the last 100 ticks, so a wave fills the whole window)
+    private static final int SPAWN_TICKS = 20;
+    static final int WAVE_TICKS = 120;
+    private static final int PLATFORM_HALF_SIZE = 2;
+
+    private static final List<Supplier<? extends EntityType<? extends BaseTowerEntity>>> TOWER_TYPES = List.of(
+        ModEntities.ARCHER_TOWER, ModEntities.TANK_TOWER, ModEntities.MAGE_TOWER, ModEntities.AILYON_TOWER
+    );
+
+    private final GameTestHelper helper;
+    private final int towersPerType;
+    private final int[] waveSizes;
+    private final double tickBudgetMillis;
+
+    private MapGenerator.GeneratedMap map;
+    private final List<BaseTowerEntity> towers = new ArrayList<>();
+    private final List<BaseEnemyEntity> enemies = new ArrayList<>();
+    private int towersPlaced;
+    private int enemiesSpawned;
+    private int wave;
+    private int waveTick;
+
+    /**
+     * @param towersPerType Towers placed of each type
+     * @param waveSizes Enemies in each wave, in order
+     * @param tickBudgetMillis Maximum average server tick time after each wave
+     */
+    LoadScenario(GameTestHelper helper, int towersPerType, int[] waveSizes, double tickBudgetMillis) {
+        this.helper = helper;
+        this.towersPerType = towersPerType;
+        this.waveSizes = waveSizes;
+        this.tickBudgetMillis = tickBudgetMillis * BUDGET_SCALE;
+    }
+
+    /**
+     * Generate the map, place the towers and start ticking the waves
+     */
+    void start() {
+        ServerLevel level = helper.getLevel();
+        map = MapGenerator.generateMap(level, helper.absolutePos(MAP_CENTER), MAP_SIZE);
+        helper.assertTrue(map.spawnPoint != null && map.pathPoints.size() > 1, "Map generation produced no path");
+        helper.assertTrue(!map.platformPositions.isEmpty(), "Map generation produced no platforms");
+
+        placeTowers(level);
+        helper.onEachTick(this::tick);
+    }
+
+    private void placeTowers(ServerLevel level) {
+        int side = PLATFORM_HALF_SIZE * 2 + 1;
+        int slots = map.platformPositions.size() * side * side;
+        int total = towersPerType * TOWER_TYPES.size();
+        helper.assertTrue(total <= slots, "Scenario needs " + total + " towers but the map only has " + slots + " platform slots");
+
+        // Deal towers out over the platforms so every platform gets a mix of types
+        for (int i = 0; i < total; i++) {
+            BlockPos platform = map.platformPositions.get(i % map.platformPositions.size());
+            int slot = i / map.platformPositions.size();
+            int dx = slot % side - PLATFORM_HALF_SIZE;
+            int dz = slot / side - PLATFORM_HALF_SIZE;
+
+            int x = platform.getX() + dx;
+            int z = platform.getZ() + dz;
+            int y = level.getHeight(Heightmap.Types.MOTION_BLOCKING_NO_LEAVES, x, z);
+
+            BaseTowerEntity tower = TOWER_TYPES.get(i % TOWER_TYPES.size()).get().create(level);
+            helper.assertTrue(tower != null, "Could not create tower");
+            tower.moveTo(x + 0.5, y, z + 0.5, 0.0F, 0.0F);
+            level.addFreshEntity(tower);
+            towers.add(tower);
+            towersPlaced++;
+        }
+    }
+
+    private void tick() {
+        if (wave >= waveSizes.length) return;
+
+        ServerLevel level = helper.getLevel();
+        int size = waveSizes[wave];
+
+        // Spread the wave over the spawn window - the densest waves spawn several enemies per tick
+        if (waveTick < SPAWN_TICKS) {
+            int due = size * (waveTick + 1) / SPAWN_TICKS - size * waveTick / SPAWN_TICKS;
+            for (int i = 0; i < due; i++) {
+                BaseEnemyEntity enemy = WaveManager.spawnEnemy(level, map.spawnPoint, map.pathPoints);
+                enemies.add(enemy);
+                enemiesSpawned++;
+            }
+        }
+
+        waveTick++;
+        if (waveTick < WAVE_TICKS) return;
+
+        checkWave(level);
+        wave++;
+        waveTick = 0;
+        if (wave == waveSizes.length) {
+            finish(level);
+        }
+    }
+
+    private void checkWave(ServerLevel level) {
+        double averageMillis = level.getServer().getAverageTickTimeNanos() / 1_000_000.0;
+        helper.assertTrue(averageMillis <= tickBudgetMillis, String.format(
+            "Wave %d (%d enemies, %d towers): average tick %.2f ms over budget of %.2f ms",
+            wave + 1, waveSizes[wave], towersPlaced, averageMillis, tickBudgetMillis));
+
+        // Sort every spawned enemy into exactly one bucket
+        int walking = 0;
+        int leaked = 0;
+        int killed = 0;
+        int vanished = 0;
+        int registered = 0;
+        for (BaseEnemyEntity enemy : enemies) {
+            if (enemy.isDeadOrDying()) {
+                killed++;
+            } else if (enemy.isRemoved()) {
+                vanished++;
+            } else if (enemy.hasReachedEnd()) {
+                leaked++;
+            } else {
+                walking++;
+            }
+            if (!enemy.isRemoved()) {
+                registered++;
+            }
+        }
+        int survivingTowers = 0;
+        for (BaseTowerEntity tower : towers) {
+            if (tower.isAlive()) {
+                survivingTowers++;
+            }
+        }
+
+        int livingEnemies = countLiving(level, BaseEnemyEntity.class);
+        int livingTowers = countLiving(level, BaseTowerEntity.class);
+
+        String prefix = "Wave " + (wave + 1) + " (" + walking + " walking, " + leaked + " leaked, " + killed + " killed): ";
+        helper.assertTrue(vanished == 0,
+            prefix + vanished + " enemies were removed without being killed");
+        helper.assertTrue(walking + leaked + killed == enemiesSpawned,
+            prefix + "counts don't add up to the " + enemiesSpawned + " spawned");
+        helper.assertTrue(livingEnemies == walking + leaked,
+            prefix + "level has " + livingEnemies + " living enemies, expected " + (walking + leaked));
+        helper.assertTrue(livingTowers == survivingTowers,
+            prefix + "level has " + livingTowers + " living towers, expected " + survivingTowers
+                + " of " + towersPlaced + " placed");
+
+        // Killed enemies stay indexed until removed after their death animation
+        int indexed = LevelCombatState.get(level).getEnemyIndex().size();
+        helper.assertTrue(indexed == registered,
+            prefix + "enemy index tracks " + indexed + " enemies but " + registered + " are in the level");
+    }
+
+    private void finish(ServerLevel level) {
+        int killed = 0;
+        for (BaseEnemyEntity enemy : enemies) {
+            if (enemy.isDeadOrDying()) {
+                killed++;
+            }
+        }
+        helper.assertTrue(killed > 0, "Towers killed none of the " + enemiesSpawned + " enemies");
+
+        helper.killAllEntities();
+        helper.succeed();
+    }
+
+    private static int countLiving(ServerLevel level, Class<? extends LivingEntity> type) {
+        return level.getEntities(EntityTypeTest.forClass(type), LivingEntity::isAlive).size();
+    }
+}
@@ -0,0 +1,37 @@
+package com.towerdefense.gametest;
+
+import com.towerdefense.TowerDefenseMod;
+import net.minecraft.gametest.framework.GameTest;
+import net.minecraft.gametest.framework.GameTestHelper;
+import net.neoforged.neoforge.gametest.GameTestHolder;
+import net.neoforged.neoforge.gametest.PrefixGameTestTemplate;
+
+/**
+ * Load scenarios for the game test server (./gradlew runGameTestServer).
+ * Each scenario runs in its own batch so the tick times it measures are not shared with other tests.
+ */
+@GameTestHolder(TowerDefenseMod.MOD_ID)
+@PrefixGameTestTemplate(false)
+public class LoadScenarioTests {
+
+    // Empty 48x16x48 arena with a stone floor, large enough for a size 40 map
+    private static final String ARENA = "load_arena";
+
+    // Leaves room for map generation and the final checks on top of the waves themselves
+    private static final int TIMEOUT_MARGIN = 200;
+
+    @GameTest(template = ARENA, batch = "load_light", timeoutTicks = 3 * LoadScenario.WAVE_TICKS + TIMEOUT_MARGIN)
+    public static void lightLoad(GameTestHelper helper) {
+        new LoadScenario(helper, 2, new int[] {10, 20, 40}, 10.0).start();
+    }
+
+    @GameTest(template = ARENA, batch = "load_medium", timeoutTicks = 3 * LoadScenario.WAVE_TICKS + TIMEOUT_MARGIN)
+    public static void mediumLoad(GameTestHelper helper) {
+        new LoadScenario(helper, 8, new int[] {25, 50, 100}, 20.0).start();
+    }
+
+    @GameTest(template = ARENA, batch = "load_heavy", timeoutTicks = 4 * LoadScenario.WAVE_TICKS + TIMEOUT_MARGIN)
+    public static void heavyLoad(GameTestHelper helper) {
+        new LoadScenario(helper, 16, new int[] {50, 100, 200, 400}, 40.0).start();
+    }
+}
@@ -0,0 +1,77 @@
+package com.towerdefense.network;
+
+import com.towerdefense.TowerDefenseMod;
+import com.towerdefense.combat.LevelCombatState;
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.network.codec.StreamCodec;
+import net.minecraft.network.protocol.common.custom.CustomPacketPayload;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.phys.Vec3;
+import net.neoforged.neoforge.network.handling.IPayloadContext;
+
+/**
+ * Packet describing one attack beam (server -> client).
+ * The client draws the particle line locally, so a shot costs one packet instead of one per particle.
+ * Queued beams travel inside each player's CombatEventPacket rather than as packets of their own.
+ */
+public record BeamPacket(int towerId, Vec3 start, Vec3 end, Style style) implements CustomPacketPayload {
+
+    public static final Type<BeamPacket> TYPE = new Type<>(
+            ResourceLocation.fromNamespaceAndPath(TowerDefenseMod.MOD_ID, "beam"));
+
+    public static final StreamCodec<FriendlyByteBuf, BeamPacket> STREAM_CODEC = StreamCodec.of(
+            BeamPacket::encode,
+            BeamPacket::decode
+    );
+
+    private static final Style[] STYLES = Style.values();
+
+    /**
+     * How the client draws the line
+     */
+    public enum Style {
+        ATTACK,   // Regular tower shot
+        SPECTRAL, // Ailyon's spectral bolt
+        CHAIN     // Chain lightning link between two enemies
+    }
+
+    /**
+     * Queue a beam for the players near the tower - sent with the level's other combat effects at the end of the tick
+     */
+    public static void send(Entity tower, Vec3 start, Vec3 end, Style style) {
+        if (tower.level() instanceof ServerLevel serverLevel) {
+            LevelCombatState.get(serverLevel).getCombatEvents().addBeam(new BeamPacket(tower.getId(), start, end, style));
+        }
+    }
+
+    private static void encode(FriendlyByteBuf buf, BeamPacket packet) {
+        buf.writeVarInt(packet.towerId);
+        buf.writeByte(packet.style.ordinal());
+        // Floats are plenty for particle positions
+        buf.writeFloat((float) packet.start.x);
+        buf.writeFloat((float) packet.start.y);
+        buf.writeFloat((float) packet.start.z);
+        buf.writeFloat((float) packet.end.x);
+        buf.writeFloat((float) packet.end.y);
+        buf.writeFloat((float) packet.end.z);
+    }
+
+    private static BeamPacket decode(FriendlyByteBuf buf) {
+        int towerId = buf.readVarInt();
+        int style = buf.readByte();
+        Vec3 start = new Vec3(buf.readFloat(), buf.readFloat(), buf.readFloat());
+        Vec3 end = new Vec3(buf.readFloat(), buf.readFloat(), buf.readFloat());
+        return new BeamPacket(towerId, start, end, style >= 0 && style < STYLES.length ? STYLES[style] : Style.ATTACK);
+    }
+
+    public static void handle(BeamPacket packet, IPayloadContext context) {
+        context.enqueueWork(() -> ModNetwork.getClientHandler().handleBeam(packet));
+    }
+
+    @Override
+    public Type<? extends CustomPacketPayload> type() {
+        return TYPE;
+    }
+}
@@ -0,0 +1,17 @@
+package com.towerdefense.network;
+
+/**
+ * Receiver of the server -> client packets.
+ * Implemented on the client side and installed through ModNetwork.setClientHandler during client setup,
+ * so the packet classes never reference client-only code and dedicated servers never load it.
+ */
+public interface ClientboundHandler {
+
+    void handleEnemyStatus(EnemyStatusPacket packet);
+
+    void handleBeam(BeamPacket packet);
+
+    void handleCombatEvents(CombatEventPacket packet);
+
+    void handleTowerPanel(TowerPanelPacket packet);
+}
@@ -0,0 +1,87 @@
+package com.towerdefense.network;
+
+import com.towerdefense.TowerDefenseMod;
+import com.towerdefense.combat.CombatEvent;
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.network.codec.StreamCodec;
+import net.minecraft.network.protocol.common.custom.CustomPacketPayload;
+import net.minecraft.resources.ResourceLocation;
+import net.neoforged.neoforge.network.handling.IPayloadContext;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Packet carrying one player's visual combat events and attack beams of one level tick (server -> client).
+ * Each event is a handful of varints: type, entity id + 1, zigzag coordinates in 1/8 block and an argument.
+ * Beams use the BeamPacket encoding.
+ */
+public record CombatEventPacket(List<CombatEvent> events, List<BeamPacket> beams) implements CustomPacketPayload {
+
+    public static final Type<CombatEventPacket> TYPE = new Type<>(
+            ResourceLocation.fromNamespaceAndPath(TowerDefenseMod.MOD_ID, "combat_events"));
+
+    public static final StreamCodec<FriendlyByteBuf, CombatEventPacket> STREAM_CODEC = StreamCodec.of(
+            CombatEventPacket::encode,
+            CombatEventPacket::decode
+    );
+
+    private static void encode(FriendlyByteBuf buf, CombatEventPacket packet) {
+        buf.writeVarInt(packet.events.size());
+        for (CombatEvent event : packet.events) {
+            buf.writeVarInt(event.type().ordinal());
+            // -1 (no entity) becomes 0
+            buf.writeVarInt(event.entityId() + 1);
+            buf.writeVarInt(zigzag(event.x()));
+            buf.writeVarInt(zigzag(event.y()));
+            buf.writeVarInt(zigzag(event.z()));
+            buf.writeVarInt(zigzag(event.arg()));
+        }
+        buf.writeVarInt(packet.beams.size());
+        for (BeamPacket beam : packet.beams) {
+            BeamPacket.STREAM_CODEC.encode(buf, beam);
+        }
+    }
+
+    private static CombatEventPacket decode(FriendlyByteBuf buf) {
+        int count = buf.readVarInt();
+        List<CombatEvent> events = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            CombatEvent.Type type = CombatEvent.typeById(buf.readVarInt());
+            int entityId = buf.readVarInt() - 1;
+            int x = unzigzag(buf.readVarInt());
+            int y = unzigzag(buf.readVarInt());
+            int z = unzigzag(buf.readVarInt());
+            int arg = unzigzag(buf.readVarInt());
+            if (type != null) {
+                events.add(new CombatEvent(type, entityId, x, y, z, arg));
+            }
+        }
+        int beamCount = buf.readVarInt();
+        List<BeamPacket> beams = new ArrayList<>(beamCount);
+        for (int i = 0; i < beamCount; i++) {
+            beams.add(BeamPacket.STREAM_CODEC.decode(buf));
+        }
+        return new CombatEventPacket(events, beams);
+    }
+
+    /**
+     * Map signed values to unsigned so small negatives stay short as varints
+     */
+    private static int zigzag(int value) {
+        return (value << 1) ^ (value >> 31);
+    }
+
+    private static int unzigzag(int value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    public static void handle(CombatEventPacket packet, IPayloadContext context) {
+        context.enqueueWork(() -> ModNetwork.getClientHandler().handleCombatEvents(packet));
+    }
+
+    @Override
+    public Type<? extends CustomPacketPayload> type() {
+        return TYPE;
+    }
+}
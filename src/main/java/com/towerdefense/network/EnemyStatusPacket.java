@@ -0,0 +1,89 @@
+package com.towerdefense.network;
+
+import com.towerdefense.TowerDefenseMod;
+import com.towerdefense.entity.enemy.BaseEnemyEntity;
+import com.towerdefense.entity.enemy.EnemyStatus;
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.network.codec.StreamCodec;
+import net.minecraft.network.protocol.common.custom.CustomPacketPayload;
+import net.minecraft.resources.ResourceLocation;
+import net.neoforged.neoforge.network.handling.IPayloadContext;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Packet carrying enemy statuses (server -> client), sent to the players tracking the enemies.
+ * Clients only use it for visuals; movement and damage stay server-side.
+ */
+public record EnemyStatusPacket(List<Entry> entries) implements CustomPacketPayload {
+
+    public static final Type<EnemyStatusPacket> TYPE = new Type<>(
+            ResourceLocation.fromNamespaceAndPath(TowerDefenseMod.MOD_ID, "enemy_status"));
+
+    public static final StreamCodec<FriendlyByteBuf, EnemyStatusPacket> STREAM_CODEC = StreamCodec.of(
+            EnemyStatusPacket::encode,
+            EnemyStatusPacket::decode
+    );
+
+    /**
+     * Remaining ticks of each effect on one enemy, 0 when inactive
+     */
+    public record Entry(int entityId, int slowTicks, int burnTicks, int stunTicks) {
+
+        /**
+         * Current status of an enemy
+         */
+        public static Entry of(BaseEnemyEntity enemy, long gameTime) {
+            EnemyStatus status = enemy.getStatus();
+            return new Entry(
+                enemy.getId(),
+                status.getRemainingTicks(EnemyStatus.FLAG_SLOW, gameTime),
+                status.getRemainingTicks(EnemyStatus.FLAG_BURN, gameTime),
+                status.getRemainingTicks(EnemyStatus.FLAG_STUN, gameTime)
+            );
+        }
+
+        public boolean hasAny() {
+            return slowTicks > 0 || burnTicks > 0 || stunTicks > 0;
+        }
+    }
+
+    private static void encode(FriendlyByteBuf buf, EnemyStatusPacket packet) {
+        buf.writeVarInt(packet.entries.size());
+        for (Entry entry : packet.entries) {
+            // Flags first, then only the durations of active effects
+            int flags = (entry.slowTicks > 0 ? EnemyStatus.FLAG_SLOW : 0)
+                    | (entry.burnTicks > 0 ? EnemyStatus.FLAG_BURN : 0)
+                    | (entry.stunTicks > 0 ? EnemyStatus.FLAG_STUN : 0);
+            buf.writeVarInt(entry.entityId);
+            buf.writeByte(flags);
+            if (entry.slowTicks > 0) buf.writeVarInt(entry.slowTicks);
+            if (entry.burnTicks > 0) buf.writeVarInt(entry.burnTicks);
+            if (entry.stunTicks > 0) buf.writeVarInt(entry.stunTicks);
+        }
+    }
+
+    private static EnemyStatusPacket decode(FriendlyByteBuf buf) {
+        int count = buf.readVarInt();
+        List<Entry> entries = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            int entityId = buf.readVarInt();
+            int flags = buf.readByte();
+            int slowTicks = (flags & EnemyStatus.FLAG_SLOW) != 0 ? buf.readVarInt() : 0;
+            int burnTicks = (flags & EnemyStatus.FLAG_BURN) != 0 ? buf.readVarInt() : 0;
+            int stunTicks = (flags & EnemyStatus.FLAG_STUN) != 0 ? buf.readVarInt() : 0;
+            entries.add(new Entry(entityId, slowTicks, burnTicks, stunTicks));
+        }
+        return new EnemyStatusPacket(entries);
+    }
+
+    public static void handle(EnemyStatusPacket packet, IPayloadContext context) {
+        context.enqueueWork(() -> ModNetwork.getClientHandler().handleEnemyStatus(packet));
+    }
+
+    @Override
+    public Type<? extends CustomPacketPayload> type() {
+        return TYPE;
+    }
+}
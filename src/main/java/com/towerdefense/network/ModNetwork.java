@@ -14,6 +14,9 @@ import net.neoforged.neoforge.network.registration.PayloadRegistrar;
  */
 public class ModNetwork {
 
+    // Set on the client only, server -> client packets are never handled on a dedicated server
+    private static ClientboundHandler clientHandler;
+
     public static void register(IEventBus modEventBus) {
         modEventBus.addListener(ModNetwork::registerPayloads);
     }
@@ -28,6 +31,13 @@ public class ModNetwork {
             TowerActionPacket::handle
         );
         
+        // Register batch tower action packet (client -> server)
+        registrar.playToServer(
+            TowerBatchActionPacket.TYPE,
+            TowerBatchActionPacket.STREAM_CODEC,
+            TowerBatchActionPacket::handle
+        );
+        
         // Register tower move packet (client -> server)
         registrar.playToServer(
             TowerMovePacket.TYPE,
@@ -41,6 +51,45 @@ public class ModNetwork {
             TowerSelectionPacket.STREAM_CODEC,
             TowerSelectionPacket::handle
         );
+        
+        // Register enemy status packet (server -> client)
+        registrar.playToClient(
+            EnemyStatusPacket.TYPE,
+            EnemyStatusPacket.STREAM_CODEC,
+            EnemyStatusPacket::handle
+        );
+        
+        // Register attack beam packet (server -> client)
+        registrar.playToClient(
+            BeamPacket.TYPE,
+            BeamPacket.STREAM_CODEC,
+            BeamPacket::handle
+        );
+        
+        // Register combat event packet (server -> client)
+        registrar.playToClient(
+            CombatEventPacket.TYPE,
+            CombatEventPacket.STREAM_CODEC,
+            CombatEventPacket::handle
+        );
+        
+        // Register selected tower panel packet (server -> client)
+        registrar.playToClient(
+            TowerPanelPacket.TYPE,
+            TowerPanelPacket.STREAM_CODEC,
+            TowerPanelPacket::handle
+        );
+    }
+
+    /**
+     * Install the client side receiver of server -> client packets
+     */
+    public static void setClientHandler(ClientboundHandler handler) {
+        clientHandler = handler;
+    }
+
+    public static ClientboundHandler getClientHandler() {
+        return clientHandler;
     }
 
     /**
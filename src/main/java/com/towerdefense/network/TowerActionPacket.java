@@ -12,7 +12,7 @@ import net.minecraft.world.entity.Entity;
 import net.neoforged.neoforge.network.handling.IPayloadContext;
 
 /**
- * Packet for tower actions (Upgrade, Sell, Start Move)
+ * Packet for tower actions (Upgrade, Sell, Start Move, Ability, Targeting)
  */
 public record TowerActionPacket(int towerId, Action action, BlockPos moveTarget, int abilityIndex) implements CustomPacketPayload {
 
@@ -24,11 +24,15 @@ public record TowerActionPacket(int towerId, Action action, BlockPos moveTarget,
             TowerActionPacket::decode
     );
 
+    // Furthest a player may act on a tower from (8 blocks) - batches use the same reach
+    public static final double MAX_DISTANCE_SQR = 64.0;
+
     public enum Action {
         UPGRADE,
         SELL,
         START_MOVE,
-        USE_ABILITY
+        USE_ABILITY,
+        CYCLE_TARGETING
     }
 
     private static void encode(FriendlyByteBuf buf, TowerActionPacket packet) {
@@ -58,7 +62,7 @@ public record TowerActionPacket(int towerId, Action action, BlockPos moveTarget,
                 Entity entity = player.level().getEntity(packet.towerId);
                 if (entity instanceof BaseTowerEntity tower) {
                     // Check distance
-                    if (tower.distanceToSqr(player) > 64.0) {
+                    if (tower.distanceToSqr(player) > MAX_DISTANCE_SQR) {
                         return;
                     }
 
@@ -71,10 +75,9 @@ public record TowerActionPacket(int towerId, Action action, BlockPos moveTarget,
                         }
                         case USE_ABILITY -> {
                             // Activate ability at the given index
-                            if (packet.abilityIndex >= 0 && packet.abilityIndex < tower.getAbilities().size()) {
-                                tower.getAbilities().get(packet.abilityIndex).activate(tower, null);
-                            }
+                            tower.useAbility(packet.abilityIndex);
                         }
+                        case CYCLE_TARGETING -> tower.setTargetingPolicy(tower.getTargetingPolicy().next());
                     }
                 }
             }
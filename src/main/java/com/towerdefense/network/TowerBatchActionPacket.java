@@ -0,0 +1,99 @@
+package com.towerdefense.network;
+
+import com.towerdefense.TowerDefenseMod;
+import com.towerdefense.entity.tower.BaseTowerEntity;
+import com.towerdefense.sim.TargetingPolicy;
+import io.netty.handler.codec.DecoderException;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.ints.IntList;
+import it.unimi.dsi.fastutil.ints.IntOpenHashSet;
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.network.codec.StreamCodec;
+import net.minecraft.network.protocol.common.custom.CustomPacketPayload;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.server.level.ServerPlayer;
+import net.neoforged.neoforge.network.handling.IPayloadContext;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Packet applying one tower action to every tower of a multi-selection (client -> server).
+ * The whole selection travels as a varint id list, so "sell these 12" is a single packet.
+ */
+public record TowerBatchActionPacket(IntList towerIds, TowerActionPacket.Action action, int abilityIndex) implements CustomPacketPayload {
+
+    public static final Type<TowerBatchActionPacket> TYPE = new Type<>(
+            ResourceLocation.fromNamespaceAndPath(TowerDefenseMod.MOD_ID, "tower_batch_action"));
+
+    public static final StreamCodec<FriendlyByteBuf, TowerBatchActionPacket> STREAM_CODEC = StreamCodec.of(
+            TowerBatchActionPacket::encode,
+            TowerBatchActionPacket::decode
+    );
+
+    // Most towers one packet may act on
+    public static final int MAX_TOWERS = 256;
+
+    private static void encode(FriendlyByteBuf buf, TowerBatchActionPacket packet) {
+        buf.writeVarInt(packet.towerIds.size());
+        for (int i = 0; i < packet.towerIds.size(); i++) {
+            buf.writeVarInt(packet.towerIds.getInt(i));
+        }
+        buf.writeEnum(packet.action);
+        buf.writeVarInt(packet.abilityIndex + 1); // -1 when unused
+    }
+
+    private static TowerBatchActionPacket decode(FriendlyByteBuf buf) {
+        int count = buf.readVarInt();
+        if (count < 0 || count > MAX_TOWERS) {
+            throw new DecoderException("Tower batch of " + count + " exceeds the limit of " + MAX_TOWERS);
+        }
+        IntList towerIds = new IntArrayList(count);
+        for (int i = 0; i < count; i++) {
+            towerIds.add(buf.readVarInt());
+        }
+        TowerActionPacket.Action action = buf.readEnum(TowerActionPacket.Action.class);
+        int abilityIndex = buf.readVarInt() - 1;
+        return new TowerBatchActionPacket(towerIds, action, abilityIndex);
+    }
+
+    public static void handle(TowerBatchActionPacket packet, IPayloadContext context) {
+        context.enqueueWork(() -> {
+            if (!(context.player() instanceof ServerPlayer player)) return;
+
+            // Resolve and validate the whole selection first - duplicates, dead and out of reach towers are dropped
+            List<BaseTowerEntity> towers = new ArrayList<>(packet.towerIds.size());
+            IntOpenHashSet seen = new IntOpenHashSet();
+            for (int i = 0; i < packet.towerIds.size(); i++) {
+                int towerId = packet.towerIds.getInt(i);
+                if (!seen.add(towerId)) continue;
+
+                if (player.level().getEntity(towerId) instanceof BaseTowerEntity tower
+                        && tower.isAlive() && tower.distanceToSqr(player) <= TowerActionPacket.MAX_DISTANCE_SQR) {
+                    towers.add(tower);
+                }
+            }
+            if (towers.isEmpty()) return;
+
+            // Cycling moves the whole selection to the policy after the first tower's, so the towers end up aligned
+            TargetingPolicy policy = towers.get(0).getTargetingPolicy().next();
+
+            for (BaseTowerEntity tower : towers) {
+                switch (packet.action) {
+                    case UPGRADE -> tower.upgrade();
+                    case SELL -> tower.sell();
+                    case START_MOVE -> {
+                        // Towers are moved one at a time via TowerMovePacket
+                    }
+                    case USE_ABILITY -> tower.useAbility(packet.abilityIndex);
+                    case CYCLE_TARGETING -> tower.setTargetingPolicy(policy);
+                }
+            }
+        });
+    }
+
+    @Override
+    public Type<? extends CustomPacketPayload> type() {
+        return TYPE;
+    }
+}
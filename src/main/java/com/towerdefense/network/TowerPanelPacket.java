@@ -0,0 +1,97 @@
+package com.towerdefense.network;
+
+import com.towerdefense.TowerDefenseMod;
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.network.codec.StreamCodec;
+import net.minecraft.network.protocol.common.custom.CustomPacketPayload;
+import net.minecraft.resources.ResourceLocation;
+import net.neoforged.neoforge.network.handling.IPayloadContext;
+
+/**
+ * Side panel values of the tower a player has selected (server -> client).
+ * Only the fields flagged in the mask are written; a FULL update carries all of them
+ * and replaces whatever the client had cached.
+ */
+public record TowerPanelPacket(int towerId, int mask, int level, float health, float maxHealth,
+                               float damage, float range, float attackSpeed, int aggroLimit,
+                               int upgradeCost, int sellValue, int[] cooldowns) implements CustomPacketPayload {
+
+    public static final Type<TowerPanelPacket> TYPE = new Type<>(
+            ResourceLocation.fromNamespaceAndPath(TowerDefenseMod.MOD_ID, "tower_panel"));
+
+    public static final StreamCodec<FriendlyByteBuf, TowerPanelPacket> STREAM_CODEC = StreamCodec.of(
+            TowerPanelPacket::encode,
+            TowerPanelPacket::decode
+    );
+
+    // Field flags
+    public static final int LEVEL = 1;
+    public static final int HEALTH = 1 << 1;
+    public static final int MAX_HEALTH = 1 << 2;
+    public static final int DAMAGE = 1 << 3;
+    public static final int RANGE = 1 << 4;
+    public static final int ATTACK_SPEED = 1 << 5;
+    public static final int AGGRO_LIMIT = 1 << 6;
+    public static final int UPGRADE_COST = 1 << 7;
+    public static final int SELL_VALUE = 1 << 8;
+    public static final int COOLDOWNS = 1 << 9; // Remaining ticks of every ability
+    public static final int FULL = 1 << 10;
+
+    public static final int ALL_FIELDS = FULL - 1;
+
+    public boolean has(int field) {
+        return (mask & field) != 0;
+    }
+
+    private static void encode(FriendlyByteBuf buf, TowerPanelPacket packet) {
+        buf.writeVarInt(packet.towerId);
+        buf.writeVarInt(packet.mask);
+        if (packet.has(LEVEL)) buf.writeVarInt(packet.level);
+        if (packet.has(HEALTH)) buf.writeFloat(packet.health);
+        if (packet.has(MAX_HEALTH)) buf.writeFloat(packet.maxHealth);
+        if (packet.has(DAMAGE)) buf.writeFloat(packet.damage);
+        if (packet.has(RANGE)) buf.writeFloat(packet.range);
+        if (packet.has(ATTACK_SPEED)) buf.writeFloat(packet.attackSpeed);
+        if (packet.has(AGGRO_LIMIT)) buf.writeVarInt(packet.aggroLimit);
+        if (packet.has(UPGRADE_COST)) buf.writeVarInt(packet.upgradeCost);
+        if (packet.has(SELL_VALUE)) buf.writeVarInt(packet.sellValue);
+        if (packet.has(COOLDOWNS)) {
+            buf.writeVarInt(packet.cooldowns.length);
+            for (int cooldown : packet.cooldowns) {
+                buf.writeVarInt(cooldown);
+            }
+        }
+    }
+
+    private static TowerPanelPacket decode(FriendlyByteBuf buf) {
+        int towerId = buf.readVarInt();
+        int mask = buf.readVarInt();
+        int level = (mask & LEVEL) != 0 ? buf.readVarInt() : 0;
+        float health = (mask & HEALTH) != 0 ? buf.readFloat() : 0;
+        float maxHealth = (mask & MAX_HEALTH) != 0 ? buf.readFloat() : 0;
+        float damage = (mask & DAMAGE) != 0 ? buf.readFloat() : 0;
+        float range = (mask & RANGE) != 0 ? buf.readFloat() : 0;
+        float attackSpeed = (mask & ATTACK_SPEED) != 0 ? buf.readFloat() : 0;
+        int aggroLimit = (mask & AGGRO_LIMIT) != 0 ? buf.readVarInt() : 0;
+        int upgradeCost = (mask & UPGRADE_COST) != 0 ? buf.readVarInt() : 0;
+        int sellValue = (mask & SELL_VALUE) != 0 ? buf.readVarInt() : 0;
+        int[] cooldowns = new int[0];
+        if ((mask & COOLDOWNS) != 0) {
+            cooldowns = new int[buf.readVarInt()];
+            for (int i = 0; i < cooldowns.length; i++) {
+                cooldowns[i] = buf.readVarInt();
+            }
+        }
+        return new TowerPanelPacket(towerId, mask, level, health, maxHealth, damage, range, attackSpeed,
+                aggroLimit, upgradeCost, sellValue, cooldowns);
+    }
+
+    public static void handle(TowerPanelPacket packet, IPayloadContext context) {
+        context.enqueueWork(() -> ModNetwork.getClientHandler().handleTowerPanel(packet));
+    }
+
+    @Override
+    public Type<? extends CustomPacketPayload> type() {
+        return TYPE;
+    }
+}
@@ -1,6 +1,7 @@
 package com.towerdefense.network;
 
 import com.towerdefense.TowerDefenseMod;
+import com.towerdefense.combat.LevelCombatState;
 import com.towerdefense.entity.tower.BaseTowerEntity;
 import net.minecraft.network.FriendlyByteBuf;
 import net.minecraft.network.codec.StreamCodec;
@@ -12,6 +13,7 @@ import net.neoforged.neoforge.network.handling.IPayloadContext;
 
 /**
  * Packet to notify server when a tower is selected or deselected
+ * Selecting also subscribes the player to the tower's side panel values (see TowerPanelSync)
  */
 public record TowerSelectionPacket(int towerId, boolean selected) implements CustomPacketPayload {
 
@@ -45,6 +47,12 @@ public record TowerSelectionPacket(int towerId, boolean selected) implements Cus
                     }
                     
                     tower.setSelected(packet.selected);
+                    
+                    if (packet.selected) {
+                        LevelCombatState.get(player.serverLevel()).getPanelSync().subscribe(player, tower);
+                    } else {
+                        LevelCombatState.get(player.serverLevel()).getPanelSync().unsubscribe(player, tower);
+                    }
                 }
             }
         });
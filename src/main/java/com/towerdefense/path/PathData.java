@@ -1,5 +1,6 @@
 package com.towerdefense.path;
 
+import com.towerdefense.sim.SimPath;
 import net.minecraft.core.BlockPos;
 import net.minecraft.world.level.block.Block;
 import net.minecraft.world.level.block.Blocks;
@@ -114,6 +115,29 @@ public class PathData {
         return pathWidth;
     }
 
+    /**
+     * Convert the waypoints for the headless simulation
+     */
+    public SimPath toSimPath() {
+        return toSimPath(waypoints);
+    }
+
+    /**
+     * Convert a waypoint list to the simulation's plain-coordinate path
+     */
+    public static SimPath toSimPath(List<BlockPos> waypoints) {
+        int[] x = new int[waypoints.size()];
+        int[] y = new int[waypoints.size()];
+        int[] z = new int[waypoints.size()];
+        for (int i = 0; i < waypoints.size(); i++) {
+            BlockPos pos = waypoints.get(i);
+            x[i] = pos.getX();
+            y[i] = pos.getY();
+            z[i] = pos.getZ();
+        }
+        return new SimPath(x, y, z);
+    }
+
     public BlockPos getEndLocation() {
         if (waypoints.isEmpty()) {
             return spawnLocation;
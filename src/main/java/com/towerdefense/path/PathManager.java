@@ -1,5 +1,6 @@
     package com.towerdefense.path;
 
+import com.towerdefense.sim.PathRasterizer;
 import net.minecraft.core.BlockPos;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.world.level.block.state.BlockState;
@@ -98,14 +99,8 @@ public class PathManager {
      * Draw a path segment between two waypoints
      */
     private static void drawPathSegment(ServerLevel level, BlockPos start, BlockPos end, BlockState block, int halfWidth) {
-        int steps = (int) Math.sqrt(start.distSqr(end)) * 2;
-        
-        for (int i = 0; i <= steps; i++) {
-            double t = (double) i / steps;
-            int x = (int) Math.round(start.getX() + (end.getX() - start.getX()) * t);
-            int y = start.getY();
-            int z = (int) Math.round(start.getZ() + (end.getZ() - start.getZ()) * t);
-
+        int y = start.getY();
+        PathRasterizer.forEachColumn(start.getX(), start.getY(), start.getZ(), end.getX(), end.getY(), end.getZ(), (x, z) -> {
             // Find ground level
             BlockPos centerPos = new BlockPos(x, y, z);
             BlockPos groundPos = findGroundLevel(level, centerPos);
@@ -117,7 +112,7 @@ public class PathManager {
                     level.setBlock(placePos, block, 3);
                 }
             }
-        }
+        });
     }
 
     /**
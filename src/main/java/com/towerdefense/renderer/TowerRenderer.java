@@ -66,7 +66,7 @@ public class TowerRenderer extends MobRenderer<BaseTowerEntity, HumanoidModel<Ba
         HumanoidModel<BaseTowerEntity> model = this.getModel();
 
         // Get attack animation progress
-        float attackProgress = TowerAnimation.getAttackProgress(entity);
+        float attackProgress = TowerAnimation.getAttackProgress(entity, partialTicks);
         float ageInTicks = entity.tickCount + partialTicks;
 
         // Reset arms to default
@@ -90,7 +90,7 @@ public class TowerRenderer extends MobRenderer<BaseTowerEntity, HumanoidModel<Ba
         super.render(entity, entityYaw, partialTicks, poseStack, buffer, packedLight);
         
         // Add selection highlight if this tower is selected
-        if (GuiModeManager.getSelectedTowerId() == entity.getId()) {
+        if (GuiModeManager.isSelected(entity.getId())) {
             renderSelectionHighlight(entity, poseStack, buffer, packedLight);
         }
     }
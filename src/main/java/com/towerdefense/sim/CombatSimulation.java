@@ -0,0 +1,247 @@
+package com.towerdefense.sim;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Headless, deterministic tower defense combat loop with no Minecraft types.
+ *
+ * Enemies spawn on the WaveSchedule, walk the path at their type's ground speed and leak when they
+ * reach the end. Towers attack on their TowerStats attack interval, pick targets with the same
+ * TargetingPolicy rules as in game and rescan every IDLE_RESCAN_TICKS while idle. The same seed
+ * always produces the same result. Enemies blocking towers and abilities are not simulated.
+ *
+ * Enemy state lives in parallel arrays and stretches without enemies are skipped in one step,
+ * so thousands of waves can be simulated per minute.
+ */
+public class CombatSimulation {
+
+    // Same as BaseTowerEntity - idle towers look for targets every few ticks
+    public static final int IDLE_RESCAN_TICKS = 4;
+
+    // Enemies spawn up to a block away from the start of the path
+    private static final double SPAWN_SPREAD = 2.0;
+
+    private final SimPath path;
+    private final WaveSchedule schedule;
+    private final SplittableRandom random;
+    private final EnemyType enemyType;
+    private final List<SimTower> towers = new ArrayList<>();
+
+    // Enemy state, index-aligned
+    private double[] enemyX = new double[64];
+    private double[] enemyZ = new double[64];
+    private float[] enemyHealth = new float[64];
+    private int[] enemyWaypoint = new int[64];
+    private int enemyCount;
+
+    private long tick;
+    private int spawned;
+    private int killed;
+    private int leaked;
+    private int reward;
+
+    public CombatSimulation(SimPath path, int waves, EnemyType enemyType, long seed) {
+        this.path = path;
+        this.schedule = new WaveSchedule(waves);
+        this.enemyType = enemyType;
+        this.random = new SplittableRandom(seed);
+    }
+
+    /**
+     * Place a tower at level 1 stats of its type
+     */
+    public SimTower addTower(TowerType type, double x, double z, TargetingPolicy policy) {
+        return addTower(type.createStats(), x, z, policy);
+    }
+
+    public SimTower addTower(TowerStats stats, double x, double z, TargetingPolicy policy) {
+        SimTower tower = new SimTower(stats, x, z, policy);
+        towers.add(tower);
+        return tower;
+    }
+
+    /**
+     * Run until every wave has spawned and every enemy has died or leaked
+     */
+    public SimulationResult run() {
+        while (!isFinished()) {
+            if (enemyCount == 0) {
+                // Nothing moves until the next spawn - jump straight to it
+                int idle = schedule.ticksUntilNextEvent() - 1;
+                if (idle > 0) {
+                    schedule.skip(idle);
+                    tick += idle;
+                }
+            }
+            step();
+        }
+        return new SimulationResult(schedule.getCurrentWave() - 1, spawned, killed, leaked, reward, tick);
+    }
+
+    /**
+     * Simulate a single tick: spawns, tower attacks (towers act first, like the in-game tower phase), movement
+     */
+    public void step() {
+        tick++;
+
+        if ((schedule.tick() & WaveSchedule.SPAWN) != 0) {
+            spawnEnemy();
+        }
+
+        for (int i = 0; i < towers.size(); i++) {
+            towers.get(i).update();
+        }
+
+        moveEnemies();
+    }
+
+    private void spawnEnemy() {
+        if (path.isEmpty()) return;
+        if (enemyCount == enemyX.length) {
+            int capacity = enemyCount * 2;
+            enemyX = Arrays.copyOf(enemyX, capacity);
+            enemyZ = Arrays.copyOf(enemyZ, capacity);
+            enemyHealth = Arrays.copyOf(enemyHealth, capacity);
+            enemyWaypoint = Arrays.copyOf(enemyWaypoint, capacity);
+        }
+
+        // Spawn slightly randomized around the start of the path, like the WaveManager
+        int i = enemyCount++;
+        enemyX[i] = path.getX(0) + (random.nextDouble() - 0.5) * SPAWN_SPREAD;
+        enemyZ[i] = path.getZ(0) + (random.nextDouble() - 0.5) * SPAWN_SPREAD;
+        enemyHealth[i] = enemyType.getMaxHealth();
+        enemyWaypoint[i] = 0;
+        spawned++;
+    }
+
+    private void moveEnemies() {
+        double speed = enemyType.getBlocksPerTick();
+        for (int i = 0; i < enemyCount; i++) {
+            int waypoint = enemyWaypoint[i];
+            // Walkers stay on the path surface, so only the horizontal distance matters
+            if (path.hasReached(waypoint, enemyX[i], path.getY(Math.min(waypoint, path.size() - 1)), enemyZ[i])) {
+                waypoint = ++enemyWaypoint[i];
+            }
+            if (waypoint >= path.size()) {
+                leaked++;
+                removeEnemy(i--);
+                continue;
+            }
+
+            double dx = path.getX(waypoint) - enemyX[i];
+            double dz = path.getZ(waypoint) - enemyZ[i];
+            double distance = Math.sqrt(dx * dx + dz * dz);
+            if (distance <= speed) {
+                enemyX[i] = path.getX(waypoint);
+                enemyZ[i] = path.getZ(waypoint);
+            } else {
+                enemyX[i] += dx / distance * speed;
+                enemyZ[i] += dz / distance * speed;
+            }
+        }
+    }
+
+    private void removeEnemy(int i) {
+        // Keep spawn order so towers see the same candidate order every run
+        int tail = enemyCount - i - 1;
+        System.arraycopy(enemyX, i + 1, enemyX, i, tail);
+        System.arraycopy(enemyZ, i + 1, enemyZ, i, tail);
+        System.arraycopy(enemyHealth, i + 1, enemyHealth, i, tail);
+        System.arraycopy(enemyWaypoint, i + 1, enemyWaypoint, i, tail);
+        enemyCount--;
+    }
+
+    /**
+     * Whether every wave has spawned and every enemy has died or leaked
+     */
+    public boolean isFinished() {
+        return schedule.isComplete() && enemyCount == 0;
+    }
+
+    public long getTick() { return tick; }
+    public int getEnemyCount() { return enemyCount; }
+    public double getEnemyX(int index) { return enemyX[index]; }
+    public double getEnemyZ(int index) { return enemyZ[index]; }
+    public float getEnemyHealth(int index) { return enemyHealth[index]; }
+    public List<SimTower> getTowers() { return towers; }
+
+    /**
+     * A placed tower - stats, position, targeting policy and attack timing
+     */
+    public class SimTower implements TargetPicker.Metrics<Integer> {
+        private final TowerStats stats;
+        private final double x;
+        private final double z;
+        private final TargetingPolicy policy;
+        private final TargetPicker<Integer> picker = new TargetPicker<>(this);
+        private long nextActionTick;
+        private int kills;
+
+        SimTower(TowerStats stats, double x, double z, TargetingPolicy policy) {
+            this.stats = stats;
+            this.x = x;
+            this.z = z;
+            this.policy = policy;
+        }
+
+        void update() {
+            if (tick < nextActionTick) return;
+            stats.expireModifiers(tick);
+
+            int target = selectTarget();
+            if (target < 0) {
+                nextActionTick = tick + IDLE_RESCAN_TICKS;
+                return;
+            }
+
+            nextActionTick = tick + stats.getAttackInterval();
+            enemyHealth[target] -= stats.getDamage();
+            if (enemyHealth[target] <= 0) {
+                killed++;
+                kills++;
+                reward += enemyType.getReward();
+                removeEnemy(target);
+            }
+        }
+
+        /**
+         * Single pass over the enemies in range with the same TargetPicker as the towers in game
+         * @return Index of the chosen enemy, or -1
+         */
+        private int selectTarget() {
+            double rangeSqr = stats.getRangeSqr();
+            picker.begin(policy);
+            for (int i = 0; i < enemyCount; i++) {
+                double dx = enemyX[i] - x;
+                double dz = enemyZ[i] - z;
+                if (dx * dx + dz * dz > rangeSqr) continue;
+                picker.offer(i);
+            }
+            Integer best = picker.finish();
+            return best != null ? best : -1;
+        }
+
+        @Override
+        public double distanceSqr(Integer enemy) {
+            double dx = enemyX[enemy] - x;
+            double dz = enemyZ[enemy] - z;
+            return dx * dx + dz * dz;
+        }
+
+        @Override
+        public double pathProgress(Integer enemy) {
+            return path.progress(enemyWaypoint[enemy], enemyX[enemy], enemyZ[enemy]);
+        }
+
+        @Override
+        public double health(Integer enemy) {
+            return enemyHealth[enemy];
+        }
+
+        public TowerStats getStats() { return stats; }
+        public int getKills() { return kills; }
+    }
+}
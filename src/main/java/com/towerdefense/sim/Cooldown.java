@@ -0,0 +1,48 @@
+package com.towerdefense.sim;
+
+/**
+ * Tick-based cooldown shared by tower abilities and the simulation.
+ * Time only moves forward through advance(), so callers that update lazily can catch up
+ * several ticks at once.
+ */
+public class Cooldown {
+
+    private final int duration;
+    private int remaining;
+
+    public Cooldown(int duration) {
+        this.duration = duration;
+    }
+
+    /**
+     * Put the cooldown on its full duration
+     */
+    public void start() {
+        remaining = duration;
+    }
+
+    /**
+     * Let the given number of ticks pass
+     */
+    public void advance(int elapsedTicks) {
+        if (remaining > 0) {
+            remaining = Math.max(0, remaining - elapsedTicks);
+        }
+    }
+
+    public void reset() {
+        remaining = 0;
+    }
+
+    public boolean isReady() {
+        return remaining <= 0;
+    }
+
+    public int getDuration() {
+        return duration;
+    }
+
+    public int getRemaining() {
+        return remaining;
+    }
+}
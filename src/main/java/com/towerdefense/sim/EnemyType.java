@@ -0,0 +1,42 @@
+package com.towerdefense.sim;
+
+/**
+ * Base stats of every enemy type.
+ * Shared by the enemy entities and the headless simulation so both start from the same numbers.
+ */
+public enum EnemyType {
+    // Basic melee enemy - slow, medium health, low damage
+    ZOMBIE(50.0f, 0.2f, 5.0f, 1.0f, 10);
+
+    // Ground speed of a walking mob in blocks per tick, per point of movement speed squared.
+    // Mobs feed their speed attribute into both the forward input and the movement speed,
+    // and ground friction (0.546) settles the velocity at speed^2 * 1.327 * 0.546 / 0.454.
+    private static final double GROUND_SPEED_FACTOR = 1.596;
+
+    private final float maxHealth;
+    private final float movementSpeed;
+    private final float damage;
+    private final float attackSpeed;
+    private final int reward;
+
+    EnemyType(float maxHealth, float movementSpeed, float damage, float attackSpeed, int reward) {
+        this.maxHealth = maxHealth;
+        this.movementSpeed = movementSpeed;
+        this.damage = damage;
+        this.attackSpeed = attackSpeed;
+        this.reward = reward;
+    }
+
+    /**
+     * Approximate distance walked per tick along a flat path
+     */
+    public double getBlocksPerTick() {
+        return (double) movementSpeed * movementSpeed * GROUND_SPEED_FACTOR;
+    }
+
+    public float getMaxHealth() { return maxHealth; }
+    public float getMovementSpeed() { return movementSpeed; }
+    public float getDamage() { return damage; }
+    public float getAttackSpeed() { return attackSpeed; }
+    public int getReward() { return reward; }
+}
@@ -0,0 +1,51 @@
+package com.towerdefense.sim;
+
+/**
+ * Turns a path segment between two waypoints into the block columns along its centre line.
+ * Pure Java so world generation, the simulation and benchmarks share the same rasterization.
+ */
+public class PathRasterizer {
+
+    /**
+     * Receives one centre column of a segment
+     */
+    @FunctionalInterface
+    public interface ColumnVisitor {
+        void visit(int x, int z);
+    }
+
+    /**
+     * Visit the centre columns of the segment from start to end, in order.
+     * The segment is sampled twice per block of length; samples that round to the
+     * column just visited are skipped, so every column is reported once per run.
+     * @return Number of columns visited
+     */
+    public static int forEachColumn(int startX, int startY, int startZ, int endX, int endY, int endZ,
+                                    ColumnVisitor visitor) {
+        int dx = endX - startX;
+        int dy = endY - startY;
+        int dz = endZ - startZ;
+        int steps = (int) Math.sqrt((double) dx * dx + (double) dy * dy + (double) dz * dz) * 2;
+        if (steps == 0) {
+            // Zero-length segment - just the waypoint itself
+            visitor.visit(startX, startZ);
+            return 1;
+        }
+
+        int count = 0;
+        int lastX = 0;
+        int lastZ = 0;
+        for (int i = 0; i <= steps; i++) {
+            double t = (double) i / steps;
+            int x = (int) Math.round(startX + dx * t);
+            int z = (int) Math.round(startZ + dz * t);
+            if (count > 0 && x == lastX && z == lastZ) continue;
+
+            visitor.visit(x, z);
+            lastX = x;
+            lastZ = z;
+            count++;
+        }
+        return count;
+    }
+}
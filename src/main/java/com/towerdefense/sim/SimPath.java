@@ -0,0 +1,83 @@
+package com.towerdefense.sim;
+
+/**
+ * Waypoint list of a path as plain coordinates.
+ * Enemies walk from the centre of one waypoint block to the next; a waypoint counts as reached
+ * once the walker is within REACH_DISTANCE_SQR of it.
+ */
+public class SimPath {
+
+    public static final double REACH_DISTANCE_SQR = 2.0;
+
+    private final double[] x;
+    private final double[] y;
+    private final double[] z;
+
+    /**
+     * @param blockX Waypoint block X coordinates
+     * @param blockY Waypoint block Y coordinates
+     * @param blockZ Waypoint block Z coordinates
+     */
+    public SimPath(int[] blockX, int[] blockY, int[] blockZ) {
+        int size = blockX.length;
+        this.x = new double[size];
+        this.y = new double[size];
+        this.z = new double[size];
+        for (int i = 0; i < size; i++) {
+            // Walk to the centre of each waypoint block
+            x[i] = blockX[i] + 0.5;
+            y[i] = blockY[i];
+            z[i] = blockZ[i] + 0.5;
+        }
+    }
+
+    public int size() {
+        return x.length;
+    }
+
+    public boolean isEmpty() {
+        return x.length == 0;
+    }
+
+    public double getX(int index) { return x[index]; }
+    public double getY(int index) { return y[index]; }
+    public double getZ(int index) { return z[index]; }
+
+    /**
+     * Check if a walker heading for the given waypoint has reached it
+     */
+    public boolean hasReached(int index, double posX, double posY, double posZ) {
+        if (index >= x.length) return true;
+        double dx = posX - x[index];
+        double dy = posY - y[index];
+        double dz = posZ - z[index];
+        return dx * dx + dy * dy + dz * dz < REACH_DISTANCE_SQR;
+    }
+
+    /**
+     * How far along the path a walker heading for the given waypoint is
+     * Integer part is the index of the last waypoint passed, fraction is progress along the current segment
+     */
+    public double progress(int index, double posX, double posZ) {
+        if (x.length == 0) {
+            return 0.0;
+        }
+        if (index >= x.length) {
+            return x.length - 1;
+        }
+        if (index == 0) {
+            return 0.0;
+        }
+        
+        double segX = x[index] - x[index - 1];
+        double segZ = z[index] - z[index - 1];
+        double lengthSqr = segX * segX + segZ * segZ;
+        double fraction = 0.0;
+        if (lengthSqr > 0) {
+            double relX = posX - x[index - 1];
+            double relZ = posZ - z[index - 1];
+            fraction = Math.max(0.0, Math.min(1.0, (relX * segX + relZ * segZ) / lengthSqr));
+        }
+        return index - 1 + fraction;
+    }
+}
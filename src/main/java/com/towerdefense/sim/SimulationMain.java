@@ -0,0 +1,74 @@
+package com.towerdefense.sim;
+
+/**
+ * Command line entry point for the headless simulation (gradle simulate).
+ *
+ * Runs the default scenario - the long winding path with one tower of each type beside it -
+ * for a number of seeds and prints the totals and the simulation throughput.
+ *
+ * Options: --seed=N (first seed, default 1), --runs=N (default 1000), --waves=N (per run, default 10)
+ */
+public class SimulationMain {
+
+    // Same layout as PathData.createLongPath, starting at the origin
+    private static final int[] PATH_X = {0, 15, 15, 0, 0, 15, 15, 30};
+    private static final int[] PATH_Z = {0, 0, 15, 15, 30, 30, 45, 45};
+
+    public static void main(String[] args) {
+        long seed = 1;
+        int runs = 1000;
+        int waves = WaveSchedule.MAX_WAVES;
+        for (String arg : args) {
+            if (arg.startsWith("--seed=")) {
+                seed = Long.parseLong(arg.substring(7));
+            } else if (arg.startsWith("--runs=")) {
+                runs = Integer.parseInt(arg.substring(7));
+            } else if (arg.startsWith("--waves=")) {
+                waves = Integer.parseInt(arg.substring(8));
+            } else {
+                throw new IllegalArgumentException("Unknown option: " + arg);
+            }
+        }
+
+        SimPath path = createPath();
+        long spawned = 0;
+        long killed = 0;
+        long leaked = 0;
+        long ticks = 0;
+        long start = System.nanoTime();
+        for (int run = 0; run < runs; run++) {
+            SimulationResult result = createScenario(path, waves, seed + run).run();
+            spawned += result.spawned();
+            killed += result.killed();
+            leaked += result.leaked();
+            ticks += result.ticks();
+            if (run == 0) {
+                System.out.println("First run (seed " + seed + "): " + result);
+            }
+        }
+        double seconds = (System.nanoTime() - start) / 1.0E9;
+
+        System.out.printf("%d runs, %d waves: spawned=%d killed=%d leaked=%d ticks=%d%n",
+                runs, (long) runs * waves, spawned, killed, leaked, ticks);
+        System.out.printf("%.2f s, %.0f waves/minute%n", seconds, runs * waves / seconds * 60);
+    }
+
+    /**
+     * The long winding path of the default scenario
+     */
+    public static SimPath createPath() {
+        return new SimPath(PATH_X, new int[PATH_X.length], PATH_Z);
+    }
+
+    /**
+     * One tower of each type placed two blocks beside the path
+     */
+    public static CombatSimulation createScenario(SimPath path, int waves, long seed) {
+        CombatSimulation simulation = new CombatSimulation(path, waves, EnemyType.ZOMBIE, seed);
+        simulation.addTower(TowerType.ARCHER, 8.5, 2.5, TargetingPolicy.FIRST);
+        simulation.addTower(TowerType.TANK, 12.5, 8.5, TargetingPolicy.CLOSEST);
+        simulation.addTower(TowerType.MAGE, 7.5, 17.5, TargetingPolicy.STRONGEST);
+        simulation.addTower(TowerType.AILYON, 2.5, 23.5, TargetingPolicy.FIRST);
+        return simulation;
+    }
+}
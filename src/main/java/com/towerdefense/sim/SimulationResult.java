@@ -0,0 +1,19 @@
+package com.towerdefense.sim;
+
+/**
+ * Outcome of one simulation run
+ * @param waves Waves fully spawned
+ * @param spawned Enemies spawned
+ * @param killed Enemies killed by towers
+ * @param leaked Enemies that reached the end of the path
+ * @param reward Gold earned from kills
+ * @param ticks Simulated game ticks
+ */
+public record SimulationResult(int waves, int spawned, int killed, int leaked, int reward, long ticks) {
+
+    @Override
+    public String toString() {
+        return String.format("waves=%d spawned=%d killed=%d leaked=%d reward=%d ticks=%d",
+                waves, spawned, killed, leaked, reward, ticks);
+    }
+}
@@ -0,0 +1,60 @@
+package com.towerdefense.sim;
+
+/**
+ * Single-pass target pick by a targeting policy, free of any entity type.
+ * Candidates are offered one at a time and only the best one seen so far is kept;
+ * the caller supplies how to read each policy metric from a candidate.
+ */
+public class TargetPicker<T> {
+
+    /**
+     * Reads the policy metrics from a candidate
+     */
+    public interface Metrics<T> {
+        double distanceSqr(T candidate);
+        double pathProgress(T candidate);
+        double health(T candidate);
+    }
+
+    private final Metrics<? super T> metrics;
+    private TargetingPolicy policy;
+    private T best;
+    private double bestScore;
+
+    public TargetPicker(Metrics<? super T> metrics) {
+        this.metrics = metrics;
+    }
+
+    /**
+     * Start a new selection pass
+     */
+    public void begin(TargetingPolicy policy) {
+        this.policy = policy;
+        this.best = null;
+        this.bestScore = Double.NEGATIVE_INFINITY;
+    }
+
+    /**
+     * Score a candidate and keep it if it beats the best so far - ties keep the first candidate
+     */
+    public void offer(T candidate) {
+        double score = policy.score(switch (policy.getMetric()) {
+            case DISTANCE_SQR -> metrics.distanceSqr(candidate);
+            case PATH_PROGRESS -> metrics.pathProgress(candidate);
+            case HEALTH -> metrics.health(candidate);
+        });
+        if (best == null || score > bestScore) {
+            best = candidate;
+            bestScore = score;
+        }
+    }
+
+    /**
+     * Finish the pass and return the selected target (or null if none was offered)
+     */
+    public T finish() {
+        T result = best;
+        best = null;
+        return result;
+    }
+}
@@ -0,0 +1,78 @@
+package com.towerdefense.sim;
+
+/**
+ * How a tower picks its target among the enemies in range.
+ * Each policy ranks candidates by a single metric (higher score is better) so the best target
+ * can be found in a single pass without building or sorting a list. Callers compute only
+ * the metric the policy asks for, which keeps the rules free of any entity type.
+ */
+public enum TargetingPolicy {
+    CLOSEST("Closest", Metric.DISTANCE_SQR, -1),
+    FIRST("First", Metric.PATH_PROGRESS, 1),
+    LAST("Last", Metric.PATH_PROGRESS, -1),
+    STRONGEST("Strongest", Metric.HEALTH, 1),
+    WEAKEST("Weakest", Metric.HEALTH, -1);
+
+    /**
+     * Value a policy ranks candidates by
+     */
+    public enum Metric {
+        DISTANCE_SQR, // Squared distance between tower and enemy
+        PATH_PROGRESS, // Waypoint index plus fraction of the current segment
+        HEALTH
+    }
+
+    private static final TargetingPolicy[] VALUES = values();
+
+    private final String displayName;
+    private final Metric metric;
+    private final int sign;
+
+    TargetingPolicy(String displayName, Metric metric, int sign) {
+        this.displayName = displayName;
+        this.metric = metric;
+        this.sign = sign;
+    }
+
+    /**
+     * Score a candidate from its metric value - the highest score wins, ties keep the first candidate seen
+     */
+    public double score(double metricValue) {
+        return sign * metricValue;
+    }
+
+    public Metric getMetric() {
+        return metric;
+    }
+
+    public String getDisplayName() {
+        return displayName;
+    }
+
+    /**
+     * Whether this policy ranks by path progress and can be answered by the PathProgressIndex
+     */
+    public boolean isPathOrdered() {
+        return metric == Metric.PATH_PROGRESS;
+    }
+
+    /**
+     * Get the next policy in cycle order (used by the side panel button)
+     */
+    public TargetingPolicy next() {
+        return VALUES[(ordinal() + 1) % VALUES.length];
+    }
+
+    public static TargetingPolicy byId(int id) {
+        return id >= 0 && id < VALUES.length ? VALUES[id] : CLOSEST;
+    }
+
+    public static TargetingPolicy byName(String name) {
+        for (TargetingPolicy policy : VALUES) {
+            if (policy.name().equals(name)) {
+                return policy;
+            }
+        }
+        return CLOSEST;
+    }
+}
@@ -0,0 +1,227 @@
+package com.towerdefense.sim;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Represents the stats of a tower.
+ * Used for display in GUI and combat calculations.
+ *
+ * Damage, range and attack speed are base values plus a stack of timed modifiers
+ * (buffs from abilities). The effective values and the numbers combat derives from them
+ * (attack interval in ticks, range squared) are cached and only recomputed when the base
+ * values or the modifier stack change.
+ */
+public class TowerStats {
+
+    /**
+     * Stats that modifiers can change
+     */
+    public enum Stat { DAMAGE, RANGE, ATTACK_SPEED }
+
+    /**
+     * How a modifier combines with the base value: (base + sum of ADD) * product of MULTIPLY
+     */
+    public enum Operation { ADD, MULTIPLY }
+
+    public static final long NO_EXPIRY = Long.MAX_VALUE;
+
+    private float baseDamage;
+    private float baseRange;
+    private float baseAttackSpeed; // attacks per second
+    private float maxHealth;
+    private float currentHealth;
+    private int aggroLimit;
+    private int level;
+    private int upgradeCost;
+    private int sellValue;
+    private final List<Modifier> modifiers = new ArrayList<>();
+
+    // Cached effective values, see recompute()
+    private float damage;
+    private float range;
+    private float attackSpeed;
+    private int attackInterval;
+    private double rangeSqr;
+    private long nextExpiry = NO_EXPIRY;
+
+    public TowerStats(float damage, float range, float attackSpeed, float maxHealth, int aggroLimit) {
+        this.baseDamage = damage;
+        this.baseRange = range;
+        this.baseAttackSpeed = attackSpeed;
+        this.maxHealth = maxHealth;
+        this.currentHealth = maxHealth;
+        this.aggroLimit = aggroLimit;
+        this.level = 1;
+        this.upgradeCost = 100;
+        this.sellValue = 50;
+        recompute();
+    }
+
+    // Copy constructor
+    public TowerStats(TowerStats other) {
+        this.baseDamage = other.baseDamage;
+        this.baseRange = other.baseRange;
+        this.baseAttackSpeed = other.baseAttackSpeed;
+        this.maxHealth = other.maxHealth;
+        this.currentHealth = other.currentHealth;
+        this.aggroLimit = other.aggroLimit;
+        this.level = other.level;
+        this.upgradeCost = other.upgradeCost;
+        this.sellValue = other.sellValue;
+        this.modifiers.addAll(other.modifiers);
+        recompute();
+    }
+
+    // Getters - effective values including modifiers
+    public float getDamage() { return damage; }
+    public float getRange() { return range; }
+    public float getAttackSpeed() { return attackSpeed; }
+    public float getMaxHealth() { return maxHealth; }
+    public float getCurrentHealth() { return currentHealth; }
+    public int getAggroLimit() { return aggroLimit; }
+    public int getLevel() { return level; }
+    public int getUpgradeCost() { return upgradeCost; }
+    public int getSellValue() { return sellValue; }
+
+    // Base values without modifiers (saved to NBT)
+    public float getBaseDamage() { return baseDamage; }
+    public float getBaseRange() { return baseRange; }
+    public float getBaseAttackSpeed() { return baseAttackSpeed; }
+
+    /**
+     * Ticks between attacks at the current attack speed (20 ticks = 1 second)
+     */
+    public int getAttackInterval() { return attackInterval; }
+
+    /**
+     * Square of the current range, for distance checks without a square root
+     */
+    public double getRangeSqr() { return rangeSqr; }
+
+    // Setters - damage, range and attack speed set the base value
+    public void setDamage(float damage) { this.baseDamage = damage; recompute(); }
+    public void setRange(float range) { this.baseRange = range; recompute(); }
+    public void setAttackSpeed(float attackSpeed) { this.baseAttackSpeed = attackSpeed; recompute(); }
+    public void setMaxHealth(float maxHealth) { this.maxHealth = maxHealth; }
+    public void setCurrentHealth(float currentHealth) { 
+        this.currentHealth = Math.min(currentHealth, maxHealth); 
+    }
+    public void setAggroLimit(int aggroLimit) { this.aggroLimit = aggroLimit; }
+    public void setLevel(int level) { this.level = level; }
+    public void setUpgradeCost(int upgradeCost) { this.upgradeCost = upgradeCost; }
+    public void setSellValue(int sellValue) { this.sellValue = sellValue; }
+
+    /**
+     * Add a modifier, replacing any modifier with the same id
+     * Overlapping buffs from different sources stack; re-applying the same buff refreshes it
+     * @param id Identifies the source of the modifier (e.g. an ability id)
+     * @param expiresAt Game time at which the modifier is dropped, or NO_EXPIRY
+     */
+    public void addModifier(String id, Stat stat, Operation operation, float amount, long expiresAt) {
+        modifiers.removeIf(modifier -> modifier.id.equals(id));
+        modifiers.add(new Modifier(id, stat, operation, amount, expiresAt));
+        recompute();
+    }
+
+    /**
+     * Remove the modifier with the given id
+     * @return true if a modifier was removed
+     */
+    public boolean removeModifier(String id) {
+        if (modifiers.removeIf(modifier -> modifier.id.equals(id))) {
+            recompute();
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Drop modifiers that expired by the given game time
+     * @return true if the effective stats changed
+     */
+    public boolean expireModifiers(long gameTime) {
+        if (gameTime < nextExpiry) return false;
+        modifiers.removeIf(modifier -> modifier.expiresAt <= gameTime);
+        recompute();
+        return true;
+    }
+
+    /**
+     * Game time at which the next modifier expires, or NO_EXPIRY
+     */
+    public long getNextExpiry() {
+        return nextExpiry;
+    }
+
+    public boolean hasModifier(String id) {
+        for (Modifier modifier : modifiers) {
+            if (modifier.id.equals(id)) return true;
+        }
+        return false;
+    }
+
+    /**
+     * Rebuild the cached effective values from the base values and the modifier stack
+     */
+    private void recompute() {
+        damage = apply(Stat.DAMAGE, baseDamage);
+        range = apply(Stat.RANGE, baseRange);
+        attackSpeed = apply(Stat.ATTACK_SPEED, baseAttackSpeed);
+        attackInterval = attackSpeed > 0 ? Math.max(1, (int)(20 / attackSpeed)) : Integer.MAX_VALUE;
+        rangeSqr = (double) range * range;
+
+        nextExpiry = NO_EXPIRY;
+        for (Modifier modifier : modifiers) {
+            nextExpiry = Math.min(nextExpiry, modifier.expiresAt);
+        }
+    }
+
+    private float apply(Stat stat, float base) {
+        float added = 0;
+        float multiplier = 1;
+        for (Modifier modifier : modifiers) {
+            if (modifier.stat != stat) continue;
+            if (modifier.operation == Operation.ADD) {
+                added += modifier.amount;
+            } else {
+                multiplier *= modifier.amount;
+            }
+        }
+        return (base + added) * multiplier;
+    }
+
+    /**
+     * A timed change to one stat
+     */
+    private record Modifier(String id, Stat stat, Operation operation, float amount, long expiresAt) {}
+
+    /**
+     * Apply upgrade multipliers to stats
+     */
+    public void applyUpgrade(float damageMultiplier, float healthMultiplier, float rangeMultiplier) {
+        this.baseDamage *= damageMultiplier;
+        this.maxHealth *= healthMultiplier;
+        this.currentHealth = this.maxHealth;
+        this.baseRange *= rangeMultiplier;
+        recompute();
+        this.level++;
+        this.upgradeCost = (int)(this.upgradeCost * 1.5f);
+        this.sellValue = (int)(this.sellValue * 1.3f);
+    }
+
+    /**
+     * Take damage and return true if tower is destroyed
+     */
+    public boolean takeDamage(float amount) {
+        this.currentHealth -= amount;
+        return this.currentHealth <= 0;
+    }
+
+    /**
+     * Heal the tower
+     */
+    public void heal(float amount) {
+        this.currentHealth = Math.min(this.currentHealth + amount, this.maxHealth);
+    }
+}
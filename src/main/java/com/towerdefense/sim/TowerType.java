@@ -0,0 +1,43 @@
+package com.towerdefense.sim;
+
+/**
+ * Base stats of every tower type.
+ * Shared by the tower entities and the headless simulation so both start from the same numbers.
+ */
+public enum TowerType {
+    // Medium damage, low aggro limit (archer can only block 1 enemy), medium range
+    ARCHER(8.0f, 12.0f, 1.5f, 80.0f, 1),
+    // Low damage, slow attacks, very high health, high aggro limit (tank can block 5 enemies)
+    TANK(4.0f, 10.0f, 0.5f, 200.0f, 5),
+    // Medium-high damage, high range, slow attacks, low health
+    MAGE(10.0f, 15.0f, 0.8f, 60.0f, 1),
+    // High single target damage, medium range, low health - glass cannon assassin
+    AILYON(12.0f, 8.0f, 1.2f, 70.0f, 1);
+
+    private final float damage;
+    private final float range;
+    private final float attackSpeed;
+    private final float maxHealth;
+    private final int aggroLimit;
+
+    TowerType(float damage, float range, float attackSpeed, float maxHealth, int aggroLimit) {
+        this.damage = damage;
+        this.range = range;
+        this.attackSpeed = attackSpeed;
+        this.maxHealth = maxHealth;
+        this.aggroLimit = aggroLimit;
+    }
+
+    /**
+     * Fresh level 1 stats for this tower type
+     */
+    public TowerStats createStats() {
+        return new TowerStats(damage, range, attackSpeed, maxHealth, aggroLimit);
+    }
+
+    public float getDamage() { return damage; }
+    public float getRange() { return range; }
+    public float getAttackSpeed() { return attackSpeed; }
+    public float getMaxHealth() { return maxHealth; }
+    public int getAggroLimit() { return aggroLimit; }
+}
@@ -0,0 +1,118 @@
+package com.towerdefense.sim;
+
+/**
+ * Spawn timing of one wave spawner: a delay before the first wave, enemies spawned at a fixed
+ * interval during a wave, and a pause between waves. Advanced one tick at a time by the
+ * WaveManager in game and by the simulation, which can also skip idle stretches in one step.
+ */
+public class WaveSchedule {
+
+    // Events returned by tick(), combined as bit flags
+    public static final int NONE = 0;
+    public static final int WAVE_STARTED = 1;
+    public static final int SPAWN = 2;
+    public static final int WAVE_ENDED = 4;
+
+    // Time in ticks (20 ticks = 1 second) before the first wave starts
+    public static final int FIRST_WAVE_DELAY = 100; // 5 seconds
+    // Time in ticks between individual enemy spawns
+    public static final int SPAWN_INTERVAL = 40; // 2 seconds between spawns
+    // Time in ticks between a wave completing and the next wave starting
+    public static final int WAVE_DELAY = 600; // 30 seconds between waves
+    // Total number of waves before the spawner stops
+    public static final int MAX_WAVES = 10;
+
+    private final int maxWaves;
+    private int currentWave;
+    private int ticksSinceLastSpawn;
+    private int enemiesSpawnedThisWave;
+    private int ticksUntilNextWave;
+    private boolean waveActive;
+
+    public WaveSchedule() {
+        this(MAX_WAVES);
+    }
+
+    public WaveSchedule(int maxWaves) {
+        this.maxWaves = maxWaves;
+        this.currentWave = 1;
+        this.ticksUntilNextWave = FIRST_WAVE_DELAY;
+    }
+
+    /**
+     * Advance one tick
+     * @return What happened this tick, as a combination of the event flags
+     */
+    public int tick() {
+        if (isComplete()) return NONE;
+
+        if (!waveActive) {
+            // Waiting for next wave
+            ticksUntilNextWave--;
+            if (ticksUntilNextWave <= 0) {
+                waveActive = true;
+                enemiesSpawnedThisWave = 0;
+                ticksSinceLastSpawn = 0;
+                return WAVE_STARTED;
+            }
+            return NONE;
+        }
+
+        // Active wave - spawn enemies
+        ticksSinceLastSpawn++;
+        if (ticksSinceLastSpawn < SPAWN_INTERVAL) return NONE;
+
+        ticksSinceLastSpawn = 0;
+        enemiesSpawnedThisWave++;
+        if (enemiesSpawnedThisWave >= getEnemiesForWave(currentWave)) {
+            waveActive = false;
+            currentWave++;
+            ticksUntilNextWave = WAVE_DELAY;
+            return SPAWN | WAVE_ENDED;
+        }
+        return SPAWN;
+    }
+
+    /**
+     * Ticks until tick() next returns an event
+     */
+    public int ticksUntilNextEvent() {
+        if (isComplete()) return Integer.MAX_VALUE;
+        return waveActive ? SPAWN_INTERVAL - ticksSinceLastSpawn : ticksUntilNextWave;
+    }
+
+    /**
+     * Skip ticks in which nothing happens, at most up to the tick before the next event
+     */
+    public void skip(int ticks) {
+        int skipped = Math.min(ticks, ticksUntilNextEvent() - 1);
+        if (skipped <= 0) return;
+        if (waveActive) {
+            ticksSinceLastSpawn += skipped;
+        } else {
+            ticksUntilNextWave -= skipped;
+        }
+    }
+
+    /**
+     * Number of enemies spawned in a wave - scales with the wave number
+     */
+    public static int getEnemiesForWave(int wave) {
+        return 5 + (wave * 2);
+    }
+
+    /**
+     * Wave currently spawning, or the next one while waiting
+     */
+    public int getCurrentWave() {
+        return currentWave;
+    }
+
+    public boolean isWaveActive() {
+        return waveActive;
+    }
+
+    public boolean isComplete() {
+        return currentWave > maxWaves;
+    }
+}
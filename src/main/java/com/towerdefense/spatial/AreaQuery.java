@@ -0,0 +1,314 @@
+package com.towerdefense.spatial;
+
+import com.towerdefense.combat.LevelCombatState;
+import com.towerdefense.entity.enemy.BaseEnemyEntity;
+import com.towerdefense.entity.tower.BaseTowerEntity;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.entity.LivingEntity;
+import net.minecraft.world.phys.AABB;
+import net.minecraft.world.phys.Vec3;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * Shared area-of-effect queries over the level's enemy and tower indexes.
+ *
+ * Every AoE ability goes through here instead of building its own AABB and entity list.
+ * The shape is narrowed from its bounding box to the exact volume (sphere, cylinder, cone or box)
+ * and matches are handed to a callback, so no result list is allocated.
+ * Each level owns one instance whose shape state and filters are reused between queries.
+ */
+public class AreaQuery {
+
+    private enum Shape { BOX, SPHERE, CYLINDER, CONE }
+
+    private final ServerLevel level;
+
+    // Current query - reused so the filters below never capture anything
+    private Shape shape;
+    private double centerX;
+    private double centerY;
+    private double centerZ;
+    private double radius;
+    private double minY;
+    private double maxY;
+    private double dirX;
+    private double dirY;
+    private double dirZ;
+    private double minCos;
+    private Consumer<? super BaseEnemyEntity> enemyAction;
+    private Consumer<? super BaseTowerEntity> towerAction;
+    private int matched;
+    private boolean busy;
+    private final List<BaseTowerEntity> towerScratch = new ArrayList<>();
+    private Set<BaseTowerEntity> damagedTowers;
+
+    private final Consumer<BaseEnemyEntity> enemyFilter = enemy -> {
+        if (matches(enemy)) {
+            matched++;
+            enemyAction.accept(enemy);
+        }
+    };
+    private final Consumer<BaseTowerEntity> towerFilter = tower -> {
+        if (matches(tower)) {
+            matched++;
+            towerAction.accept(tower);
+        }
+    };
+    private final Consumer<BaseTowerEntity> damagedCollector = tower -> {
+        if (damagedTowers.contains(tower)) {
+            towerScratch.add(tower);
+        }
+    };
+
+    public AreaQuery(ServerLevel level) {
+        this.level = level;
+    }
+
+    /**
+     * Get the query service for a level
+     */
+    public static AreaQuery of(ServerLevel level) {
+        return LevelCombatState.get(level).getAreaQuery();
+    }
+
+    // ==================== Enemies ====================
+
+    /**
+     * Visit enemies whose hitbox intersects the box
+     * @return Number of enemies visited
+     */
+    public int enemiesInBox(AABB box, Consumer<? super BaseEnemyEntity> action) {
+        AreaQuery query = acquire();
+        query.setBox();
+        return query.runEnemies(box, action);
+    }
+
+    /**
+     * Visit enemies whose hitbox touches the sphere
+     * @return Number of enemies visited
+     */
+    public int enemiesInSphere(double x, double y, double z, double radius, Consumer<? super BaseEnemyEntity> action) {
+        AreaQuery query = acquire();
+        query.setSphere(x, y, z, radius);
+        return query.runEnemies(query.bounds(), action);
+    }
+
+    /**
+     * Visit enemies whose hitbox touches an upright cylinder
+     * @param y Bottom of the cylinder
+     * @return Number of enemies visited
+     */
+    public int enemiesInCylinder(double x, double y, double z, double radius, double height,
+                                 Consumer<? super BaseEnemyEntity> action) {
+        AreaQuery query = acquire();
+        query.setCylinder(x, y, z, radius, height);
+        return query.runEnemies(query.bounds(), action);
+    }
+
+    /**
+     * Visit enemies whose centre lies within a cone
+     * @param halfAngleDegrees Angle between the cone axis and its edge
+     * @return Number of enemies visited
+     */
+    public int enemiesInCone(Vec3 apex, Vec3 direction, double range, double halfAngleDegrees,
+                             Consumer<? super BaseEnemyEntity> action) {
+        AreaQuery query = acquire();
+        query.setCone(apex, direction, range, halfAngleDegrees);
+        return query.runEnemies(query.bounds(), action);
+    }
+
+    // ==================== Towers ====================
+
+    /**
+     * Visit towers whose hitbox intersects the box
+     * @return Number of towers visited
+     */
+    public int towersInBox(AABB box, Consumer<? super BaseTowerEntity> action) {
+        AreaQuery query = acquire();
+        query.setBox();
+        return query.runTowers(box, action);
+    }
+
+    /**
+     * Visit towers whose hitbox touches the sphere
+     * @return Number of towers visited
+     */
+    public int towersInSphere(double x, double y, double z, double radius, Consumer<? super BaseTowerEntity> action) {
+        AreaQuery query = acquire();
+        query.setSphere(x, y, z, radius);
+        return query.runTowers(query.bounds(), action);
+    }
+
+    /**
+     * Visit towers whose hitbox touches an upright cylinder
+     * @param y Bottom of the cylinder
+     * @return Number of towers visited
+     */
+    public int towersInCylinder(double x, double y, double z, double radius, double height,
+                                Consumer<? super BaseTowerEntity> action) {
+        AreaQuery query = acquire();
+        query.setCylinder(x, y, z, radius, height);
+        return query.runTowers(query.bounds(), action);
+    }
+
+    /**
+     * Visit towers below full health whose hitbox touches an upright cylinder.
+     * Walks the tower index over the cylinder's bounds and keeps the members of the level's
+     * damaged tower set; returns immediately when no tower in the level is damaged.
+     * @param y Bottom of the cylinder
+     * @return Number of towers visited
+     */
+    public int damagedTowersInCylinder(double x, double y, double z, double radius, double height,
+                                       Consumer<? super BaseTowerEntity> action) {
+        LevelCombatState state = LevelCombatState.get(level);
+        if (!state.hasDamagedTowers()) return 0;
+
+        AreaQuery query = acquire();
+        query.setCylinder(x, y, z, radius, height);
+
+        // Snapshot first - healing inside the callback removes towers from the set
+        List<BaseTowerEntity> candidates = query.towerScratch;
+        query.busy = true;
+        query.towerAction = action;
+        query.matched = 0;
+        query.damagedTowers = state.getDamagedTowers();
+        try {
+            TowerSpatialIndex.forEachTower(level, query.bounds(), query.damagedCollector);
+            for (int i = 0; i < candidates.size(); i++) {
+                query.towerFilter.accept(candidates.get(i));
+            }
+            return query.matched;
+        } finally {
+            candidates.clear();
+            query.damagedTowers = null;
+            query.towerAction = null;
+            query.busy = false;
+        }
+    }
+
+    // ==================== Shapes ====================
+
+    private void setBox() {
+        shape = Shape.BOX;
+    }
+
+    private void setSphere(double x, double y, double z, double radius) {
+        shape = Shape.SPHERE;
+        centerX = x;
+        centerY = y;
+        centerZ = z;
+        this.radius = radius;
+        minY = y - radius;
+        maxY = y + radius;
+    }
+
+    private void setCylinder(double x, double y, double z, double radius, double height) {
+        shape = Shape.CYLINDER;
+        centerX = x;
+        centerY = y;
+        centerZ = z;
+        this.radius = radius;
+        minY = y;
+        maxY = y + height;
+    }
+
+    private void setCone(Vec3 apex, Vec3 direction, double range, double halfAngleDegrees) {
+        shape = Shape.CONE;
+        centerX = apex.x;
+        centerY = apex.y;
+        centerZ = apex.z;
+        radius = range;
+        minY = apex.y - range;
+        maxY = apex.y + range;
+        Vec3 axis = direction.normalize();
+        dirX = axis.x;
+        dirY = axis.y;
+        dirZ = axis.z;
+        minCos = Math.cos(Math.toRadians(halfAngleDegrees));
+    }
+
+    /**
+     * Bounding box of the current shape, used for the index lookup
+     */
+    private AABB bounds() {
+        return new AABB(centerX - radius, minY, centerZ - radius, centerX + radius, maxY, centerZ + radius);
+    }
+
+    /**
+     * Exact shape test - the index lookup already guarantees the hitbox meets the bounding box
+     */
+    private boolean matches(LivingEntity entity) {
+        switch (shape) {
+            case SPHERE: {
+                AABB box = entity.getBoundingBox();
+                double dx = clampDelta(centerX, box.minX, box.maxX);
+                double dy = clampDelta(centerY, box.minY, box.maxY);
+                double dz = clampDelta(centerZ, box.minZ, box.maxZ);
+                return dx * dx + dy * dy + dz * dz <= radius * radius;
+            }
+            case CYLINDER: {
+                AABB box = entity.getBoundingBox();
+                double dx = clampDelta(centerX, box.minX, box.maxX);
+                double dz = clampDelta(centerZ, box.minZ, box.maxZ);
+                return dx * dx + dz * dz <= radius * radius;
+            }
+            case CONE: {
+                double ex = entity.getX() - centerX;
+                double ey = entity.getY() + entity.getBbHeight() / 2 - centerY;
+                double ez = entity.getZ() - centerZ;
+                double distSqr = ex * ex + ey * ey + ez * ez;
+                if (distSqr > radius * radius) return false;
+                if (distSqr == 0) return true;
+                double along = ex * dirX + ey * dirY + ez * dirZ;
+                return along >= minCos * Math.sqrt(distSqr);
+            }
+            default:
+                return true;
+        }
+    }
+
+    private static double clampDelta(double value, double min, double max) {
+        if (value < min) return min - value;
+        if (value > max) return value - max;
+        return 0;
+    }
+
+    // ==================== Execution ====================
+
+    /**
+     * Use this instance, or a temporary one if a callback issued a nested query
+     */
+    private AreaQuery acquire() {
+        return busy ? new AreaQuery(level) : this;
+    }
+
+    private int runEnemies(AABB bounds, Consumer<? super BaseEnemyEntity> action) {
+        busy = true;
+        enemyAction = action;
+        matched = 0;
+        try {
+            EnemySpatialIndex.forEachEnemy(level, bounds, enemyFilter);
+            return matched;
+        } finally {
+            enemyAction = null;
+            busy = false;
+        }
+    }
+
+    private int runTowers(AABB bounds, Consumer<? super BaseTowerEntity> action) {
+        busy = true;
+        towerAction = action;
+        matched = 0;
+        try {
+            TowerSpatialIndex.forEachTower(level, bounds, towerFilter);
+            return matched;
+        } finally {
+            towerAction = null;
+            busy = false;
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.towerdefense.spatial;
+
+import com.towerdefense.entity.tower.BaseTowerEntity;
+import it.unimi.dsi.fastutil.longs.Long2IntOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
+
+/**
+ * Per-level map of the cells in which an enemy could be blocked by a tower.
+ *
+ * Each tower publishes a square "blocking zone" around itself when it is placed, and republishes it
+ * when it walks or blinks into another cell. Enemies only look for blockers while standing in a
+ * zoned cell, so long stretches of path without towers cost a single cached lookup per enemy.
+ */
+public class BlockingZoneIndex {
+
+    // Enemies engage towers within 3 blocks (see BaseEnemyEntity.canTargetTower)
+    public static final double BLOCKING_RADIUS = 3.0;
+
+    private static final int CELL_SHIFT = SpatialGrid.DEFAULT_CELL_SHIFT;
+
+    private final Long2IntOpenHashMap zoneCounts = new Long2IntOpenHashMap();
+    private final Reference2ObjectOpenHashMap<BaseTowerEntity, int[]> zones = new Reference2ObjectOpenHashMap<>();
+    private int revision;
+
+    /**
+     * Publish or refresh the zone of a tower at its current position
+     */
+    public void update(BaseTowerEntity tower) {
+        int minCellX = toCell(tower.getX() - BLOCKING_RADIUS);
+        int minCellZ = toCell(tower.getZ() - BLOCKING_RADIUS);
+        int maxCellX = toCell(tower.getX() + BLOCKING_RADIUS);
+        int maxCellZ = toCell(tower.getZ() + BLOCKING_RADIUS);
+
+        int[] zone = zones.get(tower);
+        if (zone != null) {
+            if (zone[0] == minCellX && zone[1] == minCellZ && zone[2] == maxCellX && zone[3] == maxCellZ) {
+                // Still covers the same cells
+                return;
+            }
+            apply(zone, -1);
+        }
+
+        zone = new int[] {minCellX, minCellZ, maxCellX, maxCellZ};
+        zones.put(tower, zone);
+        apply(zone, 1);
+    }
+
+    /**
+     * Withdraw the zone of a tower that was sold, killed or unloaded
+     */
+    public void remove(BaseTowerEntity tower) {
+        int[] zone = zones.remove(tower);
+        if (zone != null) {
+            apply(zone, -1);
+        }
+    }
+
+    /**
+     * Key of the cell containing a world position
+     */
+    public long cellKeyAt(double x, double z) {
+        return SpatialGrid.key(toCell(x), toCell(z));
+    }
+
+    /**
+     * Check whether any tower's blocking zone covers the given cell
+     */
+    public boolean isZoned(long cellKey) {
+        return zoneCounts.get(cellKey) > 0;
+    }
+
+    /**
+     * Incremented whenever any zone changes, so callers can cache isZoned results per cell
+     */
+    public int getRevision() {
+        return revision;
+    }
+
+    private static int toCell(double coord) {
+        return ((int) Math.floor(coord)) >> CELL_SHIFT;
+    }
+
+    private void apply(int[] zone, int delta) {
+        for (int cellX = zone[0]; cellX <= zone[2]; cellX++) {
+            for (int cellZ = zone[1]; cellZ <= zone[3]; cellZ++) {
+                long key = SpatialGrid.key(cellX, cellZ);
+                if (zoneCounts.addTo(key, delta) + delta <= 0) {
+                    zoneCounts.remove(key);
+                }
+            }
+        }
+        revision++;
+    }
+}
@@ -0,0 +1,321 @@
+package com.towerdefense.spatial;
+
+import com.towerdefense.combat.LevelCombatState;
+import com.towerdefense.config.TowerDefenseConfig;
+import com.towerdefense.entity.enemy.BaseEnemyEntity;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.objects.ReferenceLinkedOpenHashSet;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.phys.AABB;
+import net.minecraft.world.phys.Vec3;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Per-level spatial index of all living enemies.
+ *
+ * Enemies register themselves when they are added to or removed from the level.
+ * The cell grid is rebuilt once per server tick, before entities tick, so every
+ * tower and ability lookup in that tick reads the same snapshot instead of scanning entity sections.
+ */
+public class EnemySpatialIndex {
+
+    // Enemies are bucketed by their position, so widen queries by roughly half a hitbox plus a tick of movement
+    private static final double ENTITY_MARGIN = 1.0;
+
+    private final ReferenceLinkedOpenHashSet<BaseEnemyEntity> members = new ReferenceLinkedOpenHashSet<>();
+    private final SpatialGrid<BaseEnemyEntity> grid = new SpatialGrid<>();
+    
+    // Scratch state for line queries, reused between calls
+    private final LongOpenHashSet lineCells = new LongOpenHashSet();
+    private final LineHits lineHits = new LineHits();
+    private final NearestQuery nearestQuery = new NearestQuery();
+
+    /**
+     * Called when an enemy joins the level
+     */
+    public void add(BaseEnemyEntity enemy) {
+        members.add(enemy);
+    }
+
+    /**
+     * Called when an enemy leaves the level (death, discard or chunk unload)
+     */
+    public void remove(BaseEnemyEntity enemy) {
+        members.remove(enemy);
+    }
+
+    /**
+     * Rebuild the cell grid from the current enemy positions
+     */
+    public void rebuild() {
+        grid.clear();
+        for (BaseEnemyEntity enemy : members) {
+            if (!enemy.isRemoved()) {
+                grid.insert(enemy, enemy.getX(), enemy.getZ());
+            }
+        }
+    }
+
+    /**
+     * Number of enemies currently registered in this level
+     */
+    public int size() {
+        return members.size();
+    }
+
+    public SpatialGrid<BaseEnemyEntity> getGrid() {
+        return grid;
+    }
+
+    /**
+     * Visit every living enemy whose bounding box intersects the given box
+     */
+    public void forEachInBox(AABB box, Consumer<? super BaseEnemyEntity> action) {
+        int minCellX = grid.toCell(box.minX - ENTITY_MARGIN);
+        int minCellZ = grid.toCell(box.minZ - ENTITY_MARGIN);
+        int maxCellX = grid.toCell(box.maxX + ENTITY_MARGIN);
+        int maxCellZ = grid.toCell(box.maxZ + ENTITY_MARGIN);
+
+        for (int cellX = minCellX; cellX <= maxCellX; cellX++) {
+            for (int cellZ = minCellZ; cellZ <= maxCellZ; cellZ++) {
+                SpatialGrid.Cell<BaseEnemyEntity> cell = grid.getCell(cellX, cellZ);
+                if (cell == null) continue;
+
+                for (int i = 0; i < cell.size(); i++) {
+                    BaseEnemyEntity enemy = cell.get(i);
+                    if (enemy.isAlive() && enemy.getBoundingBox().intersects(box)) {
+                        action.accept(enemy);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Visit the living enemies hit by a bolt from start to end, nearest first.
+     * Walks the grid cells under the bolt with a DDA traversal, so the cost depends on the
+     * length of the bolt rather than on how many enemies are around.
+     * @param radius Half-width of the bolt
+     * @param limit Maximum number of enemies to visit (pierce count)
+     * @return Number of enemies visited
+     */
+    public int forEachOnLine(Vec3 start, Vec3 end, double radius, int limit, Consumer<? super BaseEnemyEntity> action) {
+        double dx = end.x - start.x;
+        double dz = end.z - start.z;
+        int cellSize = grid.getCellSize();
+        int cellX = grid.toCell(start.x);
+        int cellZ = grid.toCell(start.z);
+        int endCellX = grid.toCell(end.x);
+        int endCellZ = grid.toCell(end.z);
+
+        int stepX = dx > 0 ? 1 : -1;
+        int stepZ = dz > 0 ? 1 : -1;
+        double tDeltaX = dx != 0 ? cellSize / Math.abs(dx) : Double.POSITIVE_INFINITY;
+        double tDeltaZ = dz != 0 ? cellSize / Math.abs(dz) : Double.POSITIVE_INFINITY;
+        double tMaxX = dx != 0 ? ((cellX + (stepX > 0 ? 1 : 0)) * (double) cellSize - start.x) / dx : Double.POSITIVE_INFINITY;
+        double tMaxZ = dz != 0 ? ((cellZ + (stepZ > 0 ? 1 : 0)) * (double) cellSize - start.z) / dz : Double.POSITIVE_INFINITY;
+
+        // Entities are bucketed by position, so look one cell to each side of the traversed cells
+        int spread = (int) Math.ceil((radius + ENTITY_MARGIN) / cellSize);
+        int steps = Math.abs(endCellX - cellX) + Math.abs(endCellZ - cellZ);
+
+        lineCells.clear();
+        lineHits.clear();
+        for (int i = 0; i <= steps; i++) {
+            for (int ox = -spread; ox <= spread; ox++) {
+                for (int oz = -spread; oz <= spread; oz++) {
+                    long key = SpatialGrid.key(cellX + ox, cellZ + oz);
+                    if (!lineCells.add(key)) continue;
+
+                    SpatialGrid.Cell<BaseEnemyEntity> cell = grid.getCell(key);
+                    if (cell == null) continue;
+                    for (int j = 0; j < cell.size(); j++) {
+                        lineHits.test(cell.get(j), start, end, radius);
+                    }
+                }
+            }
+
+            if (tMaxX < tMaxZ) {
+                cellX += stepX;
+                tMaxX += tDeltaX;
+            } else {
+                cellZ += stepZ;
+                tMaxZ += tDeltaZ;
+            }
+        }
+
+        return lineHits.visit(limit, action);
+    }
+
+    /**
+     * Find the living enemy nearest to a point, searching outwards ring by ring of cells
+     * and stopping as soon as no unvisited ring can hold anything closer.
+     * @param range Maximum distance to the enemy
+     * @param exclude Enemies to skip (e.g. already visited)
+     * @return The nearest matching enemy, or null if none is within range
+     */
+    public BaseEnemyEntity findNearest(double x, double y, double z, double range, Predicate<? super BaseEnemyEntity> exclude) {
+        nearestQuery.set(x, y, z, exclude);
+        BaseEnemyEntity nearest = grid.findNearest(x, z, range, nearestQuery);
+        nearestQuery.set(0, 0, 0, null);
+        return nearest;
+    }
+
+    /**
+     * Find the nearest living enemy using the level's index when enabled,
+     * falling back to a regular entity query otherwise.
+     */
+    public static BaseEnemyEntity findNearestEnemy(ServerLevel level, double x, double y, double z,
+                                                   double range, Predicate<? super BaseEnemyEntity> exclude) {
+        if (TowerDefenseConfig.useSpatialIndex()) {
+            return LevelCombatState.get(level).getEnemyIndex().findNearest(x, y, z, range, exclude);
+        }
+
+        AABB box = new AABB(x - range, y - range, z - range, x + range, y + range, z + range);
+        BaseEnemyEntity nearest = null;
+        double nearestSqr = range * range;
+        for (BaseEnemyEntity enemy : level.getEntitiesOfClass(BaseEnemyEntity.class, box)) {
+            if (!enemy.isAlive() || exclude.test(enemy)) continue;
+
+            double distSqr = enemy.distanceToSqr(x, y, z);
+            if (distSqr < nearestSqr || (nearest == null && distSqr <= range * range)) {
+                nearest = enemy;
+                nearestSqr = distSqr;
+            }
+        }
+        return nearest;
+    }
+
+    /**
+     * Visit the enemies hit by a bolt, nearest first, using the level's index when enabled
+     * and falling back to a regular entity query otherwise.
+     * @return Number of enemies visited
+     */
+    public static int forEachEnemyOnLine(ServerLevel level, Vec3 start, Vec3 end, double radius, int limit,
+                                         Consumer<? super BaseEnemyEntity> action) {
+        if (TowerDefenseConfig.useSpatialIndex()) {
+            return LevelCombatState.get(level).getEnemyIndex().forEachOnLine(start, end, radius, limit, action);
+        }
+
+        LineHits hits = new LineHits();
+        AABB box = new AABB(start, end).inflate(radius);
+        for (BaseEnemyEntity enemy : level.getEntitiesOfClass(BaseEnemyEntity.class, box)) {
+            hits.test(enemy, start, end, radius);
+        }
+        return hits.visit(limit, action);
+    }
+
+    /**
+     * Visit every living enemy in the box, using the level's index when enabled
+     * and falling back to a regular entity query otherwise.
+     */
+    public static void forEachEnemy(ServerLevel level, AABB box, Consumer<? super BaseEnemyEntity> action) {
+        if (TowerDefenseConfig.useSpatialIndex()) {
+            LevelCombatState.get(level).getEnemyIndex().forEachInBox(box, action);
+            return;
+        }
+
+        for (BaseEnemyEntity enemy : level.getEntitiesOfClass(BaseEnemyEntity.class, box)) {
+            if (enemy.isAlive()) {
+                action.accept(enemy);
+            }
+        }
+    }
+
+    /**
+     * Distance function for the ring search - skips dead and excluded enemies
+     */
+    private static class NearestQuery implements ToDoubleFunction<BaseEnemyEntity> {
+        private double x;
+        private double y;
+        private double z;
+        private Predicate<? super BaseEnemyEntity> exclude;
+
+        void set(double x, double y, double z, Predicate<? super BaseEnemyEntity> exclude) {
+            this.x = x;
+            this.y = y;
+            this.z = z;
+            this.exclude = exclude;
+        }
+
+        @Override
+        public double applyAsDouble(BaseEnemyEntity enemy) {
+            if (!enemy.isAlive() || exclude.test(enemy)) return -1;
+            return enemy.distanceToSqr(x, y, z);
+        }
+    }
+
+    /**
+     * Enemies intersecting a bolt together with where along the bolt they were hit
+     */
+    private static class LineHits {
+        private final List<BaseEnemyEntity> enemies = new ArrayList<>();
+        private double[] hitT = new double[8];
+        private double tEnter;
+        private double tExit;
+
+        void clear() {
+            enemies.clear();
+        }
+
+        /**
+         * Record the enemy if its bounding box, widened by the bolt radius, intersects the segment
+         */
+        void test(BaseEnemyEntity enemy, Vec3 start, Vec3 end, double radius) {
+            if (!enemy.isAlive()) return;
+
+            AABB box = enemy.getBoundingBox();
+            tEnter = 0.0;
+            tExit = 1.0;
+
+            // Slab test on each axis against the box widened by the bolt radius
+            if (!clip(start.x, end.x - start.x, box.minX - radius, box.maxX + radius)) return;
+            if (!clip(start.y, end.y - start.y, box.minY - radius, box.maxY + radius)) return;
+            if (!clip(start.z, end.z - start.z, box.minZ - radius, box.maxZ + radius)) return;
+
+            // Insertion into the distance-ordered list - bolts only cross a handful of enemies
+            int size = enemies.size();
+            if (size == hitT.length) {
+                hitT = Arrays.copyOf(hitT, size * 2);
+            }
+            int index = size;
+            while (index > 0 && hitT[index - 1] > tEnter) {
+                hitT[index] = hitT[index - 1];
+                index--;
+            }
+            hitT[index] = tEnter;
+            enemies.add(index, enemy);
+        }
+
+        private boolean clip(double origin, double delta, double min, double max) {
+            if (delta == 0) {
+                return origin >= min && origin <= max;
+            }
+            double t0 = (min - origin) / delta;
+            double t1 = (max - origin) / delta;
+            if (t0 > t1) {
+                double swap = t0;
+                t0 = t1;
+                t1 = swap;
+            }
+            tEnter = Math.max(tEnter, t0);
+            tExit = Math.min(tExit, t1);
+            return tEnter <= tExit;
+        }
+
+        int visit(int limit, Consumer<? super BaseEnemyEntity> action) {
+            int count = Math.min(limit, enemies.size());
+            for (int i = 0; i < count; i++) {
+                action.accept(enemies.get(i));
+            }
+            enemies.clear();
+            return count;
+        }
+    }
+}
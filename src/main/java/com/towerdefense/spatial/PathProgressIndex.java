@@ -0,0 +1,403 @@
+package com.towerdefense.spatial;
+
+import com.towerdefense.entity.enemy.BaseEnemyEntity;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectLinkedOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
+import net.minecraft.core.BlockPos;
+import net.minecraft.world.phys.AABB;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * Per-level index of enemies ordered by how far along their path they are.
+ *
+ * Enemies walking the same waypoint list share a track. Each track keeps its enemies sorted
+ * by path progress; the order is refreshed once per tick with an insertion sort, which is linear
+ * because enemies rarely overtake each other.
+ *
+ * A tower turns its targeting box into "range windows" - the progress intervals where the path
+ * passes through the box - once per position/range change. Finding the furthest (or least) advanced
+ * enemy in range is then a binary search into each window instead of a scan over every candidate.
+ *
+ * A track is dropped as soon as its last enemy leaves it, and towers forget their windows for
+ * dropped tracks, so maps that come and go don't leave paths behind for the life of the server.
+ */
+public class PathProgressIndex {
+
+    // How far enemies may stray from the path centre line and still be found through a window
+    // (path half-width, navigation wobble and enemies stepping aside to attack a blocker)
+    private static final double PATH_MARGIN = 4.0;
+
+    // Progress stored for tracked enemies that have not reached their first waypoint yet
+    private static final double BEFORE_PATH = -1.0;
+
+    private final Map<List<BlockPos>, Track> tracks = new HashMap<>();
+    private final Reference2ObjectLinkedOpenHashMap<BaseEnemyEntity, Entry> entries = new Reference2ObjectLinkedOpenHashMap<>();
+    private final List<Entry> untracked = new ArrayList<>();
+    private int droppedTracks; // Bumped whenever a track is dropped, so RangeWindows know to prune
+
+    /**
+     * Called when an enemy joins the level
+     */
+    public void add(BaseEnemyEntity enemy) {
+        entries.putIfAbsent(enemy, new Entry(enemy));
+    }
+
+    /**
+     * Called when an enemy leaves the level - it is dropped from its track on the next refresh
+     */
+    public void remove(BaseEnemyEntity enemy) {
+        Entry entry = entries.remove(enemy);
+        if (entry != null) {
+            entry.removed = true;
+        }
+    }
+
+    /**
+     * Recompute every enemy's progress and restore the per-track ordering
+     * Called once per tick, before towers act
+     */
+    public void refresh() {
+        untracked.clear();
+        for (Entry entry : entries.values()) {
+            BaseEnemyEntity enemy = entry.enemy;
+            if (entry.pathRevision != enemy.getPathRevision()) {
+                assignTrack(entry);
+            }
+            if (entry.track == null) {
+                untracked.add(entry);
+            } else {
+                entry.progress = enemy.getCurrentWaypointIndex() == 0 ? BEFORE_PATH : enemy.getPathProgress();
+            }
+        }
+
+        Iterator<Track> iterator = tracks.values().iterator();
+        while (iterator.hasNext()) {
+            Track track = iterator.next();
+            track.refresh();
+            if (track.size == 0) {
+                // No enemy walks this path any more
+                track.dropped = true;
+                iterator.remove();
+                droppedTracks++;
+            }
+        }
+    }
+
+    /**
+     * Find the enemy in the box that is furthest along (or least far along) its path
+     * @param box The tower's targeting box
+     * @param furthest true for the most advanced enemy, false for the least advanced one
+     * @param windows The calling tower's window cache
+     * @param filter Extra test for enemies inside the box, e.g. the tower's exact range
+     * @return The selected enemy, or null if no enemy in the box passes the filter
+     */
+    public BaseEnemyEntity findInBox(AABB box, boolean furthest, RangeWindows windows,
+                                     Predicate<? super BaseEnemyEntity> filter) {
+        windows.update(box, droppedTracks);
+
+        if (!furthest) {
+            // Enemies that are not on a path yet count as the least advanced
+            BaseEnemyEntity found = findBeforePath(box, filter);
+            if (found != null) return found;
+        }
+
+        Entry best = null;
+        for (Track track : tracks.values()) {
+            Entry candidate = track.search(box, furthest, windows.get(track), filter);
+            if (candidate != null && (best == null
+                    || (furthest ? candidate.progress > best.progress : candidate.progress < best.progress))) {
+                best = candidate;
+            }
+        }
+        if (best != null) return best.enemy;
+
+        return furthest ? findBeforePath(box, filter) : null;
+    }
+
+    /**
+     * Number of distinct paths that currently have enemies
+     */
+    public int getActiveTrackCount() {
+        int count = 0;
+        for (Track track : tracks.values()) {
+            if (track.size > 0) count++;
+        }
+        return count;
+    }
+
+    private BaseEnemyEntity findBeforePath(AABB box, Predicate<? super BaseEnemyEntity> filter) {
+        for (Entry entry : untracked) {
+            if (isInBox(entry.enemy, box, filter)) return entry.enemy;
+        }
+        for (Track track : tracks.values()) {
+            for (int i = 0; i < track.size && track.progress[i] == BEFORE_PATH; i++) {
+                if (isInBox(track.entries[i].enemy, box, filter)) return track.entries[i].enemy;
+            }
+        }
+        return null;
+    }
+
+    private void assignTrack(Entry entry) {
+        entry.pathRevision = entry.enemy.getPathRevision();
+        List<BlockPos> waypoints = entry.enemy.getPathWaypoints();
+
+        Track track = null;
+        if (!waypoints.isEmpty()) {
+            track = tracks.get(waypoints);
+            if (track == null) {
+                track = new Track(waypoints);
+                tracks.put(track.waypoints, track);
+            }
+        }
+
+        if (entry.track != track) {
+            if (entry.track != null) {
+                entry.track.detach(entry);
+            }
+            entry.track = track;
+            if (track != null) {
+                track.attach(entry);
+            }
+        }
+    }
+
+    private static boolean isInBox(BaseEnemyEntity enemy, AABB box, Predicate<? super BaseEnemyEntity> filter) {
+        return enemy.isAlive() && !enemy.isDoomed() && enemy.getBoundingBox().intersects(box) && filter.test(enemy);
+    }
+
+    /**
+     * Index bookkeeping for one enemy
+     */
+    private static class Entry {
+        final BaseEnemyEntity enemy;
+        Track track;
+        int pathRevision = -1;
+        double progress;
+        boolean removed;
+
+        Entry(BaseEnemyEntity enemy) {
+            this.enemy = enemy;
+        }
+    }
+
+    /**
+     * All enemies following one waypoint list, sorted by ascending progress
+     */
+    private static class Track {
+        final List<BlockPos> waypoints;
+        final double[] pointX;
+        final double[] pointZ;
+        Entry[] entries = new Entry[16];
+        double[] progress = new double[16];
+        int size;
+        boolean dropped;
+
+        Track(List<BlockPos> waypoints) {
+            this.waypoints = List.copyOf(waypoints);
+            this.pointX = new double[waypoints.size()];
+            this.pointZ = new double[waypoints.size()];
+            for (int i = 0; i < waypoints.size(); i++) {
+                // Enemies walk to the centre of each waypoint block
+                pointX[i] = waypoints.get(i).getX() + 0.5;
+                pointZ[i] = waypoints.get(i).getZ() + 0.5;
+            }
+        }
+
+        void attach(Entry entry) {
+            if (size == entries.length) {
+                entries = Arrays.copyOf(entries, size * 2);
+                progress = Arrays.copyOf(progress, size * 2);
+            }
+            entries[size++] = entry;
+        }
+
+        void detach(Entry entry) {
+            for (int i = 0; i < size; i++) {
+                if (entries[i] == entry) {
+                    System.arraycopy(entries, i + 1, entries, i, size - i - 1);
+                    entries[--size] = null;
+                    return;
+                }
+            }
+        }
+
+        void refresh() {
+            // Drop enemies that left the level or switched path, keeping the previous order
+            int kept = 0;
+            for (int i = 0; i < size; i++) {
+                Entry entry = entries[i];
+                if (!entry.removed && entry.track == this) {
+                    entries[kept++] = entry;
+                }
+            }
+            Arrays.fill(entries, kept, size, null);
+            size = kept;
+
+            // Insertion sort - nearly linear since the previous order is almost always still valid
+            for (int i = 1; i < size; i++) {
+                Entry entry = entries[i];
+                double value = entry.progress;
+                int j = i - 1;
+                while (j >= 0 && entries[j].progress > value) {
+                    entries[j + 1] = entries[j];
+                    j--;
+                }
+                entries[j + 1] = entry;
+            }
+            for (int i = 0; i < size; i++) {
+                progress[i] = entries[i].progress;
+            }
+        }
+
+        /**
+         * Search the windows from the most (or least) advanced end for the first enemy in the box
+         */
+        Entry search(AABB box, boolean furthest, double[] windows, Predicate<? super BaseEnemyEntity> filter) {
+            if (size == 0 || windows.length == 0) return null;
+
+            if (furthest) {
+                for (int w = windows.length - 2; w >= 0; w -= 2) {
+                    double lo = windows[w];
+                    int i = upperBound(windows[w + 1]) - 1;
+                    for (; i >= 0 && progress[i] >= lo; i--) {
+                        if (isInBox(entries[i].enemy, box, filter)) return entries[i];
+                    }
+                }
+            } else {
+                for (int w = 0; w < windows.length; w += 2) {
+                    double hi = windows[w + 1];
+                    int i = lowerBound(windows[w]);
+                    for (; i < size && progress[i] <= hi; i++) {
+                        if (isInBox(entries[i].enemy, box, filter)) return entries[i];
+                    }
+                }
+            }
+            return null;
+        }
+
+        /**
+         * Progress intervals [lo0, hi0, lo1, hi1, ...] where the path passes through the box
+         */
+        double[] computeWindows(double minX, double minZ, double maxX, double maxZ) {
+            if (pointX.length == 1) {
+                boolean inside = pointX[0] >= minX && pointX[0] <= maxX && pointZ[0] >= minZ && pointZ[0] <= maxZ;
+                return inside ? new double[] {0.0, 0.0} : new double[0];
+            }
+
+            double[] result = new double[4];
+            int count = 0;
+            for (int i = 0; i < pointX.length - 1; i++) {
+                double x0 = pointX[i];
+                double z0 = pointZ[i];
+                double dx = pointX[i + 1] - x0;
+                double dz = pointZ[i + 1] - z0;
+
+                // Liang-Barsky clip of the segment against the box
+                double t0 = 0.0;
+                double t1 = 1.0;
+                double[] p = {-dx, dx, -dz, dz};
+                double[] q = {x0 - minX, maxX - x0, z0 - minZ, maxZ - z0};
+                boolean outside = false;
+                for (int k = 0; k < 4 && !outside; k++) {
+                    if (p[k] == 0) {
+                        outside = q[k] < 0;
+                    } else {
+                        double t = q[k] / p[k];
+                        if (p[k] < 0) {
+                            t0 = Math.max(t0, t);
+                        } else {
+                            t1 = Math.min(t1, t);
+                        }
+                        outside = t0 > t1;
+                    }
+                }
+                if (outside) continue;
+
+                double lo = i + t0;
+                double hi = i + t1;
+                if (count > 0 && lo <= result[count - 1] + 1.0E-9) {
+                    // Touches the previous window - merge them
+                    result[count - 1] = Math.max(result[count - 1], hi);
+                } else {
+                    if (count == result.length) {
+                        result = Arrays.copyOf(result, count * 2);
+                    }
+                    result[count++] = lo;
+                    result[count++] = hi;
+                }
+            }
+            return Arrays.copyOf(result, count);
+        }
+
+        private int lowerBound(double value) {
+            int lo = 0;
+            int hi = size;
+            while (lo < hi) {
+                int mid = (lo + hi) >>> 1;
+                if (progress[mid] < value) lo = mid + 1;
+                else hi = mid;
+            }
+            return lo;
+        }
+
+        private int upperBound(double value) {
+            int lo = 0;
+            int hi = size;
+            while (lo < hi) {
+                int mid = (lo + hi) >>> 1;
+                if (progress[mid] <= value) lo = mid + 1;
+                else hi = mid;
+            }
+            return lo;
+        }
+    }
+
+    /**
+     * Per-tower cache of range windows for each track.
+     * Cleared whenever the tower's targeting box changes (move, blink, range upgrade).
+     */
+    public static class RangeWindows {
+        private final Reference2ObjectOpenHashMap<Track, double[]> byTrack = new Reference2ObjectOpenHashMap<>();
+        private double minX = Double.NaN;
+        private double minZ;
+        private double maxX;
+        private double maxZ;
+        private int droppedTracks;
+
+        void update(AABB box, int indexDroppedTracks) {
+            if (indexDroppedTracks != droppedTracks) {
+                // Forget windows of paths the index no longer keeps
+                droppedTracks = indexDroppedTracks;
+                byTrack.keySet().removeIf(track -> track.dropped);
+            }
+
+            double newMinX = box.minX - PATH_MARGIN;
+            double newMinZ = box.minZ - PATH_MARGIN;
+            double newMaxX = box.maxX + PATH_MARGIN;
+            double newMaxZ = box.maxZ + PATH_MARGIN;
+            if (newMinX != minX || newMinZ != minZ || newMaxX != maxX || newMaxZ != maxZ) {
+                minX = newMinX;
+                minZ = newMinZ;
+                maxX = newMaxX;
+                maxZ = newMaxZ;
+                byTrack.clear();
+            }
+        }
+
+        double[] get(Track track) {
+            double[] windows = byTrack.get(track);
+            if (windows == null) {
+                windows = track.computeWindows(minX, minZ, maxX, maxZ);
+                byTrack.put(track, windows);
+            }
+            return windows;
+        }
+    }
+}
@@ -0,0 +1,313 @@
+package com.towerdefense.spatial;
+
+import java.util.Arrays;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Uniform cell grid keyed by block column (X/Z).
+ * Pure Java so it can be shared by the server indexes, the headless simulation and benchmarks.
+ *
+ * Cells are stored in an open-addressing table and are reused between rebuilds,
+ * so clearing and refilling the grid every tick does not allocate once the table has warmed up.
+ */
+public class SpatialGrid<T> {
+
+    // Cell edge length is 1 << cellShift blocks
+    public static final int DEFAULT_CELL_SHIFT = 2;
+
+    private static final long EMPTY_KEY = Long.MIN_VALUE;
+    private static final int INITIAL_CAPACITY = 64;
+
+    private final int cellShift;
+    private long[] keys;
+    private Cell<T>[] cells;
+    private int cellCount;
+    private int itemCount;
+
+    public SpatialGrid() {
+        this(DEFAULT_CELL_SHIFT);
+    }
+
+    public SpatialGrid(int cellShift) {
+        this.cellShift = cellShift;
+        allocate(INITIAL_CAPACITY);
+    }
+
+    /**
+     * Cell edge length in blocks
+     */
+    public int getCellSize() {
+        return 1 << cellShift;
+    }
+
+    /**
+     * Convert a world coordinate to a cell coordinate
+     */
+    public int toCell(double coord) {
+        return ((int) Math.floor(coord)) >> cellShift;
+    }
+
+    /**
+     * Pack a cell coordinate pair into a single key
+     */
+    public static long key(int cellX, int cellZ) {
+        return ((long) cellX << 32) | (cellZ & 0xFFFFFFFFL);
+    }
+
+    public static int keyX(long key) {
+        return (int) (key >> 32);
+    }
+
+    public static int keyZ(long key) {
+        return (int) key;
+    }
+
+    /**
+     * Key of the cell containing the given world position
+     */
+    public long keyAt(double x, double z) {
+        return key(toCell(x), toCell(z));
+    }
+
+    /**
+     * Insert an item at a world position
+     * @return the key of the cell the item was stored in
+     */
+    public long insert(T item, double x, double z) {
+        long key = keyAt(x, z);
+        insert(item, key);
+        return key;
+    }
+
+    /**
+     * Insert an item into a specific cell
+     */
+    public void insert(T item, long key) {
+        getOrCreateCell(key).add(item);
+        itemCount++;
+    }
+
+    /**
+     * Remove an item from a specific cell
+     * @return true if the item was found
+     */
+    public boolean remove(T item, long key) {
+        Cell<T> cell = getCell(key);
+        if (cell != null && cell.remove(item)) {
+            itemCount--;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Move an item between cells, doing nothing if the cell did not change
+     * @return the key of the cell the item is now stored in
+     */
+    public long move(T item, long oldKey, double x, double z) {
+        long newKey = keyAt(x, z);
+        if (newKey != oldKey) {
+            remove(item, oldKey);
+            insert(item, newKey);
+        }
+        return newKey;
+    }
+
+    /**
+     * Empty every cell while keeping the cell storage for reuse.
+     * The table is dropped entirely if it has grown far larger than what is occupied.
+     */
+    public void clear() {
+        int occupied = 0;
+        for (Cell<T> cell : cells) {
+            if (cell != null) {
+                if (cell.size > 0) {
+                    occupied++;
+                }
+                cell.clear();
+            }
+        }
+        itemCount = 0;
+
+        if (cellCount > INITIAL_CAPACITY && cellCount > occupied * 4) {
+            allocate(INITIAL_CAPACITY);
+        }
+    }
+
+    /**
+     * Get the cell for a key, or null if nothing was ever stored there
+     */
+    public Cell<T> getCell(long key) {
+        int mask = keys.length - 1;
+        int slot = hash(key) & mask;
+        while (true) {
+            long k = keys[slot];
+            if (k == key) {
+                return cells[slot];
+            }
+            if (k == EMPTY_KEY) {
+                return null;
+            }
+            slot = (slot + 1) & mask;
+        }
+    }
+
+    public Cell<T> getCell(int cellX, int cellZ) {
+        return getCell(key(cellX, cellZ));
+    }
+
+    /**
+     * Find the item nearest to a point, searching outwards ring by ring of cells
+     * and stopping as soon as no unvisited ring can hold anything closer.
+     * @param range Maximum distance to the item
+     * @param distance Squared distance from the point to an item, or a negative value to skip the item
+     * @return The nearest item within range, or null if there is none
+     */
+    public T findNearest(double x, double z, double range, ToDoubleFunction<? super T> distance) {
+        int centerX = toCell(x);
+        int centerZ = toCell(z);
+        int cellSize = getCellSize();
+        int maxRing = (int) Math.ceil(range / cellSize) + 1;
+        double rangeSqr = range * range;
+
+        T nearest = null;
+        double nearestSqr = rangeSqr;
+        for (int ring = 0; ring <= maxRing; ring++) {
+            // Cells in this ring are at least (ring - 1) cells away from the point
+            double ringMin = Math.max(0, ring - 1) * (double) cellSize;
+            if (ringMin * ringMin > nearestSqr) break;
+
+            for (int cellX = centerX - ring; cellX <= centerX + ring; cellX++) {
+                // Only the outline of the square - the inside was covered by earlier rings
+                boolean edgeColumn = cellX == centerX - ring || cellX == centerX + ring;
+                int step = edgeColumn ? 1 : Math.max(1, ring * 2);
+                for (int cellZ = centerZ - ring; cellZ <= centerZ + ring; cellZ += step) {
+                    Cell<T> cell = getCell(cellX, cellZ);
+                    if (cell == null) continue;
+
+                    for (int i = 0; i < cell.size(); i++) {
+                        T item = cell.get(i);
+                        double distSqr = distance.applyAsDouble(item);
+                        if (distSqr < 0) continue;
+
+                        if (distSqr < nearestSqr || (nearest == null && distSqr <= rangeSqr)) {
+                            nearest = item;
+                            nearestSqr = distSqr;
+                        }
+                    }
+                }
+            }
+        }
+        return nearest;
+    }
+
+    /**
+     * Total number of items in the grid
+     */
+    public int size() {
+        return itemCount;
+    }
+
+    private Cell<T> getOrCreateCell(long key) {
+        int mask = keys.length - 1;
+        int slot = hash(key) & mask;
+        while (true) {
+            long k = keys[slot];
+            if (k == key) {
+                return cells[slot];
+            }
+            if (k == EMPTY_KEY) {
+                break;
+            }
+            slot = (slot + 1) & mask;
+        }
+
+        // Keep the load factor at or below 0.5
+        if ((cellCount + 1) * 2 > keys.length) {
+            rehash(keys.length * 2);
+            return getOrCreateCell(key);
+        }
+
+        Cell<T> cell = new Cell<>();
+        keys[slot] = key;
+        cells[slot] = cell;
+        cellCount++;
+        return cell;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        Arrays.fill(keys, EMPTY_KEY);
+        cells = (Cell<T>[]) new Cell[capacity];
+        cellCount = 0;
+        itemCount = 0;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void rehash(int capacity) {
+        long[] oldKeys = keys;
+        Cell<T>[] oldCells = cells;
+        keys = new long[capacity];
+        Arrays.fill(keys, EMPTY_KEY);
+        cells = (Cell<T>[]) new Cell[capacity];
+
+        int mask = capacity - 1;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != EMPTY_KEY) {
+                int slot = hash(oldKeys[i]) & mask;
+                while (keys[slot] != EMPTY_KEY) {
+                    slot = (slot + 1) & mask;
+                }
+                keys[slot] = oldKeys[i];
+                cells[slot] = oldCells[i];
+            }
+        }
+    }
+
+    private static int hash(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+
+    /**
+     * A single grid cell - a compact growable array of items
+     */
+    public static class Cell<T> {
+        private Object[] items = new Object[4];
+        private int size;
+
+        @SuppressWarnings("unchecked")
+        public T get(int index) {
+            return (T) items[index];
+        }
+
+        public int size() {
+            return size;
+        }
+
+        void add(T item) {
+            if (size == items.length) {
+                items = Arrays.copyOf(items, size * 2);
+            }
+            items[size++] = item;
+        }
+
+        boolean remove(T item) {
+            for (int i = 0; i < size; i++) {
+                if (items[i] == item) {
+                    // Keep insertion order so iteration stays deterministic
+                    System.arraycopy(items, i + 1, items, i, size - i - 1);
+                    items[--size] = null;
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        void clear() {
+            Arrays.fill(items, 0, size, null);
+            size = 0;
+        }
+    }
+}
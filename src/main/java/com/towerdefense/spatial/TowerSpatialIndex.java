@@ -0,0 +1,150 @@
+package com.towerdefense.spatial;
+
+import com.towerdefense.combat.LevelCombatState;
+import com.towerdefense.config.TowerDefenseConfig;
+import com.towerdefense.entity.tower.BaseTowerEntity;
+import it.unimi.dsi.fastutil.objects.Reference2LongOpenHashMap;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.phys.AABB;
+
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * Per-level spatial index of all towers.
+ *
+ * Unlike enemies, towers almost never move, so the grid is updated incrementally:
+ * towers are inserted when placed, moved between cells when they walk or blink,
+ * and removed when sold, killed or unloaded. Lookups never touch the level's entity sections.
+ */
+public class TowerSpatialIndex {
+
+    // Towers are bucketed by their position, so widen queries by roughly half a hitbox
+    private static final double ENTITY_MARGIN = 1.0;
+
+    private final SpatialGrid<BaseTowerEntity> grid = new SpatialGrid<>();
+    private final Reference2LongOpenHashMap<BaseTowerEntity> cellKeys = new Reference2LongOpenHashMap<>();
+
+    /**
+     * Called when a tower is placed or loaded
+     */
+    public void add(BaseTowerEntity tower) {
+        if (cellKeys.containsKey(tower)) return;
+        cellKeys.put(tower, grid.insert(tower, tower.getX(), tower.getZ()));
+    }
+
+    /**
+     * Called when a tower is sold, killed or unloaded
+     */
+    public void remove(BaseTowerEntity tower) {
+        if (!cellKeys.containsKey(tower)) return;
+        grid.remove(tower, cellKeys.removeLong(tower));
+    }
+
+    /**
+     * Called after a tower changed position - only touches the grid if it crossed into another cell
+     */
+    public void update(BaseTowerEntity tower) {
+        if (!cellKeys.containsKey(tower)) return;
+        long oldKey = cellKeys.getLong(tower);
+        long newKey = grid.move(tower, oldKey, tower.getX(), tower.getZ());
+        if (newKey != oldKey) {
+            cellKeys.put(tower, newKey);
+        }
+    }
+
+    /**
+     * Number of towers currently registered in this level
+     */
+    public int size() {
+        return cellKeys.size();
+    }
+
+    public SpatialGrid<BaseTowerEntity> getGrid() {
+        return grid;
+    }
+
+    /**
+     * Visit every living tower whose bounding box intersects the given box
+     */
+    public void forEachInBox(AABB box, Consumer<? super BaseTowerEntity> action) {
+        int minCellX = grid.toCell(box.minX - ENTITY_MARGIN);
+        int minCellZ = grid.toCell(box.minZ - ENTITY_MARGIN);
+        int maxCellX = grid.toCell(box.maxX + ENTITY_MARGIN);
+        int maxCellZ = grid.toCell(box.maxZ + ENTITY_MARGIN);
+
+        for (int cellX = minCellX; cellX <= maxCellX; cellX++) {
+            for (int cellZ = minCellZ; cellZ <= maxCellZ; cellZ++) {
+                SpatialGrid.Cell<BaseTowerEntity> cell = grid.getCell(cellX, cellZ);
+                if (cell == null) continue;
+
+                for (int i = 0; i < cell.size(); i++) {
+                    BaseTowerEntity tower = cell.get(i);
+                    if (tower.isAlive() && tower.getBoundingBox().intersects(box)) {
+                        action.accept(tower);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Find the first living tower in the box that matches the filter
+     * @return The matching tower, or null if there is none
+     */
+    public BaseTowerEntity findInBox(AABB box, Predicate<? super BaseTowerEntity> filter) {
+        int minCellX = grid.toCell(box.minX - ENTITY_MARGIN);
+        int minCellZ = grid.toCell(box.minZ - ENTITY_MARGIN);
+        int maxCellX = grid.toCell(box.maxX + ENTITY_MARGIN);
+        int maxCellZ = grid.toCell(box.maxZ + ENTITY_MARGIN);
+
+        for (int cellX = minCellX; cellX <= maxCellX; cellX++) {
+            for (int cellZ = minCellZ; cellZ <= maxCellZ; cellZ++) {
+                SpatialGrid.Cell<BaseTowerEntity> cell = grid.getCell(cellX, cellZ);
+                if (cell == null) continue;
+
+                for (int i = 0; i < cell.size(); i++) {
+                    BaseTowerEntity tower = cell.get(i);
+                    if (tower.isAlive() && tower.getBoundingBox().intersects(box) && filter.test(tower)) {
+                        return tower;
+                    }
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Visit every living tower in the box, using the level's index when enabled
+     * and falling back to a regular entity query otherwise.
+     */
+    public static void forEachTower(ServerLevel level, AABB box, Consumer<? super BaseTowerEntity> action) {
+        if (TowerDefenseConfig.useSpatialIndex()) {
+            LevelCombatState.get(level).getTowerIndex().forEachInBox(box, action);
+            return;
+        }
+
+        for (BaseTowerEntity tower : level.getEntitiesOfClass(BaseTowerEntity.class, box)) {
+            if (tower.isAlive()) {
+                action.accept(tower);
+            }
+        }
+    }
+
+    /**
+     * Find the first living tower in the box matching the filter, using the level's index when enabled
+     * and falling back to a regular entity query otherwise.
+     */
+    public static BaseTowerEntity findTower(ServerLevel level, AABB box, Predicate<? super BaseTowerEntity> filter) {
+        if (TowerDefenseConfig.useSpatialIndex()) {
+            return LevelCombatState.get(level).getTowerIndex().findInBox(box, filter);
+        }
+
+        for (BaseTowerEntity tower : level.getEntitiesOfClass(BaseTowerEntity.class, box)) {
+            if (tower.isAlive() && filter.test(tower)) {
+                return tower;
+            }
+        }
+        return null;
+    }
+}
@@ -4,6 +4,7 @@ import com.towerdefense.entity.enemy.BaseEnemyEntity;
 import com.towerdefense.entity.enemy.ZombieEnemyEntity;
 import com.towerdefense.path.PathData;
 import com.towerdefense.registry.ModEntities;
+import com.towerdefense.sim.WaveSchedule;
 import net.minecraft.core.BlockPos;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.world.entity.EntityType;
@@ -66,6 +67,30 @@ public class WaveManager {
         return ACTIVE_WAVES.size();
     }
 
+    /**
+     * Spawn a single enemy at a path's spawn location, already following the waypoints
+     */
+    public static BaseEnemyEntity spawnEnemy(ServerLevel level, BlockPos spawnLocation, List<BlockPos> waypoints) {
+        // Create zombie enemy
+        ZombieEnemyEntity enemy = new ZombieEnemyEntity(ModEntities.ZOMBIE_ENEMY.get(), level);
+        
+        // Set spawn position (slightly randomized)
+        double offsetX = (Math.random() - 0.5) * 2;
+        double offsetZ = (Math.random() - 0.5) * 2;
+        enemy.setPos(
+            spawnLocation.getX() + 0.5 + offsetX,
+            spawnLocation.getY() + 1,
+            spawnLocation.getZ() + 0.5 + offsetZ
+        );
+        
+        // Set path waypoints
+        enemy.setPathWaypoints(waypoints);
+        
+        // Add to world
+        level.addFreshEntity(enemy);
+        return enemy;
+    }
+
     /**
      * Data for a single wave spawning system
      */
@@ -75,109 +100,53 @@ public class WaveManager {
         private final BlockPos spawnLocation;
         private final List<BlockPos> waypoints;
         
-        private int currentWave;
-        private int ticksSinceLastSpawn;
-        private int enemiesSpawnedThisWave;
-        private int ticksUntilNextWave;
-        private boolean waveActive;
+        // Wave timing, shared with the headless simulation
+        private final WaveSchedule schedule;
         
-        // Wave configuration
-        // SPAWN_INTERVAL: Time in ticks (20 ticks = 1 second) between individual enemy spawns
-        private static final int SPAWN_INTERVAL = 40; // 2 seconds between spawns
-        // WAVE_DELAY: Time in ticks between waves completing and next wave starting
-        private static final int WAVE_DELAY = 600; // 30 seconds between waves
-        // MAX_WAVES: Total number of waves before wave system stops
-        private static final int MAX_WAVES = 10;
-
         public WaveData(ServerLevel level, PathData path, BlockPos spawnLocation, List<BlockPos> waypoints) {
             this.level = level;
             this.path = path;
             this.spawnLocation = spawnLocation;
             this.waypoints = waypoints;
-            this.currentWave = 1;
-            this.ticksSinceLastSpawn = 0;
-            this.enemiesSpawnedThisWave = 0;
-            this.ticksUntilNextWave = 100; // 5 second delay before first wave
-            this.waveActive = false;
+            this.schedule = new WaveSchedule();
         }
 
         public void tick() {
-            if (!waveActive) {
-                // Waiting for next wave
-                ticksUntilNextWave--;
-                
-                if (ticksUntilNextWave <= 0) {
-                    startWave();
-                }
-                return;
+            // Spawn timing comes from the shared wave schedule
+            int events = schedule.tick();
+            if ((events & WaveSchedule.WAVE_STARTED) != 0) {
+                startWave();
             }
-
-            // Active wave - spawn enemies
-            ticksSinceLastSpawn++;
-            
-            if (ticksSinceLastSpawn >= SPAWN_INTERVAL) {
+            if ((events & WaveSchedule.SPAWN) != 0) {
                 spawnEnemy();
-                ticksSinceLastSpawn = 0;
-                enemiesSpawnedThisWave++;
-                
-                // Check if wave is complete
-                if (enemiesSpawnedThisWave >= getEnemiesForWave(currentWave)) {
-                    endWave();
-                }
+            }
+            if ((events & WaveSchedule.WAVE_ENDED) != 0) {
+                endWave();
             }
         }
 
         private void startWave() {
-            waveActive = true;
-            enemiesSpawnedThisWave = 0;
-            ticksSinceLastSpawn = 0;
-            
             // Broadcast wave start
             level.getServer().getPlayerList().broadcastSystemMessage(
-                net.minecraft.network.chat.Component.literal("§6Wave " + currentWave + " started!"),
+                net.minecraft.network.chat.Component.literal("§6Wave " + schedule.getCurrentWave() + " started!"),
                 false
             );
         }
 
         private void endWave() {
-            waveActive = false;
-            currentWave++;
-            ticksUntilNextWave = WAVE_DELAY;
-            
-            // Broadcast wave complete
+            // Broadcast wave complete - the schedule already moved on to the next wave
             level.getServer().getPlayerList().broadcastSystemMessage(
-                net.minecraft.network.chat.Component.literal("§aWave " + (currentWave - 1) + " complete!"),
+                net.minecraft.network.chat.Component.literal("§aWave " + (schedule.getCurrentWave() - 1) + " complete!"),
                 false
             );
         }
 
         private void spawnEnemy() {
-            // Create zombie enemy
-            ZombieEnemyEntity enemy = new ZombieEnemyEntity(ModEntities.ZOMBIE_ENEMY.get(), level);
-            
-            // Set spawn position (slightly randomized)
-            double offsetX = (Math.random() - 0.5) * 2;
-            double offsetZ = (Math.random() - 0.5) * 2;
-            enemy.setPos(
-                spawnLocation.getX() + 0.5 + offsetX,
-                spawnLocation.getY() + 1,
-                spawnLocation.getZ() + 0.5 + offsetZ
-            );
-            
-            // Set path waypoints
-            enemy.setPathWaypoints(waypoints);
-            
-            // Add to world
-            level.addFreshEntity(enemy);
-        }
-
-        private int getEnemiesForWave(int wave) {
-            // Scale enemy count with wave number
-            return 5 + (wave * 2);
+            WaveManager.spawnEnemy(level, spawnLocation, waypoints);
         }
 
         public boolean isComplete() {
-            return currentWave > MAX_WAVES;
+            return schedule.isComplete();
         }
     }
 }
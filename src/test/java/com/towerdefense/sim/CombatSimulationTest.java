@@ -0,0 +1,65 @@
+package com.towerdefense.sim;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+/**
+ * Determinism of the headless simulation: the seed alone decides the outcome
+ */
+class CombatSimulationTest {
+
+    private static final int WAVES = 3;
+
+    @Test
+    void sameSeedGivesSameTrace() {
+        SimPath path = SimulationMain.createPath();
+        List<Double> first = trace(SimulationMain.createScenario(path, WAVES, 42));
+        List<Double> second = trace(SimulationMain.createScenario(path, WAVES, 42));
+
+        // Every enemy position and health of every tick, not just the totals every seed shares
+        assertEquals(first, second);
+        assertFalse(first.isEmpty());
+    }
+
+    @Test
+    void differentSeedGivesDifferentSpawns() {
+        SimPath path = SimulationMain.createPath();
+        double[] first = firstSpawn(SimulationMain.createScenario(path, WAVES, 42));
+        double[] second = firstSpawn(SimulationMain.createScenario(path, WAVES, 43));
+
+        assertFalse(first[0] == second[0] && first[1] == second[1],
+                "Seeds 42 and 43 spawned the first enemy at the same position");
+    }
+
+    /**
+     * Step to the end, recording the tick and every enemy's position and health after each step
+     */
+    private static List<Double> trace(CombatSimulation simulation) {
+        List<Double> trace = new ArrayList<>();
+        while (!simulation.isFinished()) {
+            simulation.step();
+            trace.add((double) simulation.getTick());
+            for (int i = 0; i < simulation.getEnemyCount(); i++) {
+                trace.add(simulation.getEnemyX(i));
+                trace.add(simulation.getEnemyZ(i));
+                trace.add((double) simulation.getEnemyHealth(i));
+            }
+        }
+        return trace;
+    }
+
+    /**
+     * Step until the first enemy appears and return its position
+     */
+    private static double[] firstSpawn(CombatSimulation simulation) {
+        while (simulation.getEnemyCount() == 0) {
+            simulation.step();
+        }
+        return new double[] {simulation.getEnemyX(0), simulation.getEnemyZ(0)};
+    }
+}